@@ -0,0 +1,96 @@
+package org.example.pokemonapi.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.pokemonapi.config.HttpClientConfig;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request latency of the RestTemplate for each pokemon.http.client
+ * against a local HTTP/1.1 server, with eight callers sharing the client.
+ * {@code SIMPLE} is the baseline the pooled clients replaced: Spring's
+ * SimpleClientHttpRequestFactory, one HttpURLConnection per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class HttpClientBenchmark {
+
+    @Param({"SIMPLE", "JDK", "APACHE"})
+    public String client;
+
+    private HttpServer server;
+    private ClientHttpRequestFactory requestFactory;
+    private RestTemplate restTemplate;
+    private String url;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Without TCP_NODELAY the JDK server adds a delayed-ACK stall to every keep-alive response.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        byte[] body = PokeApiPayloads.detail("pikachu", 25, 0).getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/api/v2/pokemon/pikachu";
+
+        PokemonProperties.Http http = new PokemonProperties().getHttp();
+        if ("SIMPLE".equals(client)) {
+            SimpleClientHttpRequestFactory simple = new SimpleClientHttpRequestFactory();
+            simple.setConnectTimeout(http.getConnectTimeout());
+            simple.setReadTimeout(http.getReadTimeout());
+            requestFactory = simple;
+        } else {
+            http.setClient(PokemonProperties.Http.Client.valueOf(client));
+            requestFactory = HttpClientConfig.createRequestFactory(http);
+        }
+        restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (requestFactory instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+        server.stop(0);
+    }
+
+    @Benchmark
+    public String get() {
+        return restTemplate.getForObject(url, String.class);
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.pokemonapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.pokemonapi.client.PokemonResponseConverter;
+import org.example.pokemonapi.service.PokemonService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserializing a PokeAPI detail response into PokemonResponse with the
+ * ObjectMapper settings Spring applies to the RestTemplate. {@code moves} is the
+ * number of moves in the payload: pikachu has about 100, so the response is a
+ * few hundred kilobytes of which the service reads five fields.
+ * {@code streamPokemonResponse} is the token-level reader the RestTemplate uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMappingBenchmark {
+
+    @Param({"0", "100"})
+    public int moves;
+
+    private ObjectMapper objectMapper;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        payload = PokeApiPayloads.detail("pikachu", 25, moves).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public PokemonService.PokemonResponse readPokemonResponse() throws IOException {
+        return objectMapper.readValue(payload, PokemonService.PokemonResponse.class);
+    }
+
+    @Benchmark
+    public PokemonService.PokemonResponse streamPokemonResponse() throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+            return PokemonResponseConverter.read(parser);
+        }
+    }
+}
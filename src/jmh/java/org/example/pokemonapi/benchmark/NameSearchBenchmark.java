@@ -0,0 +1,110 @@
+package org.example.pokemonapi.benchmark;
+
+import org.example.pokemonapi.index.NameIndex;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.store.HeapPokemonStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Name searches through NameIndex next to computing the edit distance to every
+ * name. Names are random lowercase words of 4 to 11 letters; {@code prefix}
+ * completes the first four letters of one of them and {@code typo} swaps a
+ * letter in the middle of a whole name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSearchBenchmark {
+
+    @Param({"1300", "100000"})
+    public int size;
+
+    private List<Pokemon> pokemons;
+    private NameIndex index;
+    private String prefix;
+    private String typo;
+
+    @Setup
+    public void setUp() {
+        pokemons = new ArrayList<>(size);
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int length = 4 + random.nextInt(8); name.length() < length; ) {
+                name.append((char) ('a' + random.nextInt(26)));
+            }
+            pokemons.add(new Pokemon(name.toString(), 1, 1, 1));
+        }
+        index = NameIndex.build(new HeapPokemonStore(pokemons));
+
+        String name = pokemons.get(size / 2).getName();
+        prefix = name.substring(0, 4);
+        StringBuilder misspelled = new StringBuilder(name);
+        misspelled.setCharAt(name.length() / 2, name.charAt(name.length() / 2) == 'z' ? 'a' : 'z');
+        typo = misspelled.toString();
+    }
+
+    @Benchmark
+    public List<Pokemon> prefixIndexed() {
+        return index.search(prefix, 10);
+    }
+
+    @Benchmark
+    public List<Pokemon> typoIndexed() {
+        return index.search(typo, 10);
+    }
+
+    @Benchmark
+    public List<Pokemon> typoScan() {
+        int maxEdits = typo.length() < 3 ? 0 : typo.length() <= 5 ? 1 : 2;
+        List<Pokemon> matches = new ArrayList<>();
+        for (Pokemon pokemon : pokemons) {
+            if (distance(typo, pokemon.getName()) <= maxEdits) {
+                matches.add(pokemon);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public NameIndex buildIndex() {
+        return NameIndex.build(new HeapPokemonStore(pokemons));
+    }
+
+    private static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
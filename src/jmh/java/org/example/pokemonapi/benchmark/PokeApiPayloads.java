@@ -0,0 +1,77 @@
+package org.example.pokemonapi.benchmark;
+
+/**
+ * Builds detail responses with the structure of PokeAPI's
+ * {@code /pokemon/{name}}: the fields the service maps, followed by the
+ * abilities, game indices, moves, sprites, stats and types it ignores.
+ */
+final class PokeApiPayloads {
+
+    private static final String[] VERSION_GROUPS = {
+            "red-blue", "yellow", "gold-silver", "crystal", "ruby-sapphire", "emerald",
+            "firered-leafgreen", "diamond-pearl", "platinum", "heartgold-soulsilver"
+    };
+
+    private PokeApiPayloads() {
+    }
+
+    static String detail(String name, int id, int moves) {
+        StringBuilder json = new StringBuilder(4096 + moves * 2048);
+        json.append("{\"abilities\":[");
+        for (int i = 0; i < 2; i++) {
+            comma(json, i).append("{\"ability\":").append(resource("ability-" + i, "ability", i + 1))
+                    .append(",\"is_hidden\":").append(i == 1).append(",\"slot\":").append(i + 1).append('}');
+        }
+        json.append("],\"base_experience\":112");
+        json.append(",\"cries\":{\"latest\":\"https://raw.githubusercontent.com/PokeAPI/cries/main/cries/pokemon/latest/")
+                .append(id).append(".ogg\",\"legacy\":\"https://raw.githubusercontent.com/PokeAPI/cries/main/cries/pokemon/legacy/")
+                .append(id).append(".ogg\"}");
+        json.append(",\"forms\":[").append(resource(name, "pokemon-form", id)).append(']');
+        json.append(",\"game_indices\":[");
+        for (int i = 0; i < 20; i++) {
+            comma(json, i).append("{\"game_index\":").append(84).append(",\"version\":")
+                    .append(resource("version-" + i, "version", i + 1)).append('}');
+        }
+        json.append("],\"height\":4,\"held_items\":[],\"id\":").append(id)
+                .append(",\"is_default\":true,\"location_area_encounters\":\"https://pokeapi.co/api/v2/pokemon/")
+                .append(id).append("/encounters\",\"moves\":[");
+        for (int i = 0; i < moves; i++) {
+            comma(json, i).append("{\"move\":").append(resource("move-" + i, "move", i + 1))
+                    .append(",\"version_group_details\":[");
+            for (int v = 0; v < VERSION_GROUPS.length; v++) {
+                comma(json, v).append("{\"level_learned_at\":").append(v)
+                        .append(",\"move_learn_method\":").append(resource("level-up", "move-learn-method", 1))
+                        .append(",\"order\":null,\"version_group\":")
+                        .append(resource(VERSION_GROUPS[v], "version-group", v + 1)).append('}');
+            }
+            json.append("]}");
+        }
+        json.append("],\"name\":\"").append(name).append("\",\"order\":").append(id)
+                .append(",\"past_abilities\":[],\"past_types\":[],\"species\":").append(resource(name, "pokemon-species", id))
+                .append(",\"sprites\":{");
+        String[] sprites = {"back_default", "back_female", "back_shiny", "back_shiny_female",
+                "front_default", "front_female", "front_shiny", "front_shiny_female"};
+        for (int i = 0; i < sprites.length; i++) {
+            comma(json, i).append('"').append(sprites[i])
+                    .append("\":\"https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/")
+                    .append(sprites[i].replace('_', '/')).append('/').append(id).append(".png\"");
+        }
+        json.append("},\"stats\":[");
+        String[] stats = {"hp", "attack", "defense", "special-attack", "special-defense", "speed"};
+        for (int i = 0; i < stats.length; i++) {
+            comma(json, i).append("{\"base_stat\":").append(35 + i * 5).append(",\"effort\":").append(i == 5 ? 2 : 0)
+                    .append(",\"stat\":").append(resource(stats[i], "stat", i + 1)).append('}');
+        }
+        json.append("],\"types\":[{\"slot\":1,\"type\":").append(resource("electric", "type", 13))
+                .append("}],\"weight\":60}");
+        return json.toString();
+    }
+
+    private static String resource(String name, String kind, int id) {
+        return "{\"name\":\"" + name + "\",\"url\":\"https://pokeapi.co/api/v2/" + kind + "/" + id + "/\"}";
+    }
+
+    private static StringBuilder comma(StringBuilder json, int index) {
+        return index > 0 ? json.append(',') : json;
+    }
+}
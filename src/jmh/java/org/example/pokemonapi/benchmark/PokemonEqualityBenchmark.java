@@ -0,0 +1,42 @@
+package org.example.pokemonapi.benchmark;
+
+import org.example.pokemonapi.model.Pokemon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PokemonEqualityBenchmark {
+
+    private final Pokemon pikachu = new Pokemon("pikachu", 60, 4, 112);
+    private final Pokemon samePikachu = new Pokemon(new String("pikachu"), 60, 4, 112);
+    private final Pokemon raichu = new Pokemon("raichu", 300, 8, 243);
+
+    @Benchmark
+    public int hashCodeOf() {
+        return pikachu.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsEqual() {
+        return pikachu.equals(samePikachu);
+    }
+
+    @Benchmark
+    public boolean equalsDifferent() {
+        return pikachu.equals(raichu);
+    }
+}
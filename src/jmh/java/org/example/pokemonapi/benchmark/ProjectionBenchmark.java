@@ -0,0 +1,93 @@
+package org.example.pokemonapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.example.pokemonapi.controller.PokemonFields;
+import org.example.pokemonapi.model.Pokemon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing a page of 100 Pokémon with types, stats and abilities in full
+ * and through common {@code ?fields=} projections, with the writer PokemonFields
+ * keeps per field set and with a filter and writer built per call. Setup prints
+ * the payload size of each projection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    private final ObjectMapper plain = new ObjectMapper();
+    private final ObjectMapper filtered = new ObjectMapper()
+            .addMixIn(Pokemon.class, PokemonFields.Filtered.class)
+            .setFilterProvider(PokemonFields.ALL);
+    private final PokemonFields fields = new PokemonFields(filtered);
+    private List<Pokemon> page;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        List<String> types = List.of("grass", "poison", "fire", "flying", "water", "bug", "normal", "electric");
+        Random random = new Random(42);
+        page = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            Map<String, Integer> stats = new LinkedHashMap<>();
+            for (String stat : Pokemon.STATS) {
+                stats.put(stat, 1 + random.nextInt(255));
+            }
+            page.add(new Pokemon("pokemon-" + i, 1 + random.nextInt(10_000), 1 + random.nextInt(200), random.nextInt(400),
+                    List.of(types.get(random.nextInt(4)), types.get(4 + random.nextInt(4))), stats,
+                    List.of("overgrow", "chlorophyll")));
+        }
+        System.out.printf("%nPayload of 100 Pokemon: full %,d bytes, name,weight %,d bytes, name %,d bytes%n",
+                full().length, nameAndWeight().length, name().length);
+    }
+
+    @Benchmark
+    public byte[] unfiltered() throws JsonProcessingException {
+        return plain.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] full() throws JsonProcessingException {
+        return fields.all().writer().writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] nameAndWeight() throws JsonProcessingException {
+        return fields.parse("name,weight").writer().writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] name() throws JsonProcessingException {
+        return fields.parse("name").writer().writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] nameAndWeightWriterPerCall() throws JsonProcessingException {
+        return filtered.writer(new SimpleFilterProvider().addFilter(PokemonFields.FILTER,
+                        SimpleBeanPropertyFilter.filterOutAllExcept(Set.of("name", "weight"))))
+                .writeValueAsBytes(page);
+    }
+}
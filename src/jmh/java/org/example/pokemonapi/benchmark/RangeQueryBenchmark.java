@@ -0,0 +1,106 @@
+package org.example.pokemonapi.benchmark;
+
+import org.example.pokemonapi.index.RangeIndex;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.model.PokemonPage;
+import org.example.pokemonapi.model.PokemonQuery;
+import org.example.pokemonapi.store.HeapPokemonStore;
+import org.example.pokemonapi.store.PokemonStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Attribute queries answered by RangeIndex next to a stream filter over the
+ * whole list. {@code selective} keeps a few percent of the dex and sorts by
+ * height; {@code broad} keeps most of it, so the page comes from walking the
+ * sort ordering.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeQueryBenchmark {
+
+    @Param({"1300", "100000"})
+    public int size;
+
+    private List<Pokemon> pokemons;
+    private RangeIndex index;
+    private PokemonQuery selective;
+    private PokemonQuery broad;
+
+    @Setup
+    public void setUp() {
+        pokemons = new ArrayList<>(size);
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            pokemons.add(new Pokemon("pokemon-" + i, 1 + random.nextInt(10_000), 1 + random.nextInt(200), random.nextInt(400)));
+        }
+        PokemonStore store = new HeapPokemonStore(pokemons);
+        index = RangeIndex.build(store);
+
+        selective = new PokemonQuery();
+        selective.setMinWeight(100);
+        selective.setMaxWeight(500);
+        selective.setMinBaseExperience(201);
+        selective.setSort("height");
+
+        broad = new PokemonQuery();
+        broad.setMinWeight(500);
+        broad.setSort("baseExperience");
+        broad.setOrder("desc");
+    }
+
+    @Benchmark
+    public PokemonPage selectiveIndexed() {
+        return index.query(selective);
+    }
+
+    @Benchmark
+    public List<Pokemon> selectiveScan() {
+        return scan(selective, Comparator.comparingInt(Pokemon::getHeight));
+    }
+
+    @Benchmark
+    public PokemonPage broadIndexed() {
+        return index.query(broad);
+    }
+
+    @Benchmark
+    public List<Pokemon> broadScan() {
+        return scan(broad, Comparator.comparingInt(Pokemon::getBaseExperience).reversed());
+    }
+
+    @Benchmark
+    public RangeIndex buildIndex() {
+        return RangeIndex.build(new HeapPokemonStore(pokemons));
+    }
+
+    private List<Pokemon> scan(PokemonQuery query, Comparator<Pokemon> order) {
+        int maxWeight = query.getMaxWeight() == null ? Integer.MAX_VALUE : query.getMaxWeight();
+        int minBaseExperience = query.getMinBaseExperience() == null ? Integer.MIN_VALUE : query.getMinBaseExperience();
+        return pokemons.stream()
+                .filter(p -> p.getWeight() >= query.getMinWeight() && p.getWeight() <= maxWeight)
+                .filter(p -> p.getBaseExperience() >= minBaseExperience)
+                .sorted(order)
+                .limit(query.getLimit())
+                .toList();
+    }
+}
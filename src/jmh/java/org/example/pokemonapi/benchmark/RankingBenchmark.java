@@ -0,0 +1,85 @@
+package org.example.pokemonapi.benchmark;
+
+import org.example.pokemonapi.cache.PokemonCache;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.index.RankingIndex;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.service.PokemonService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-N queries on a loaded dataset, plus the cost of building the ranking
+ * index once per snapshot. 20 is a short test dex, 1,300 is about the size
+ * of the real Pokédex, and 100k covers growth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RankingBenchmark {
+
+    @Param({"20", "1300", "100000"})
+    public int size;
+
+    @Param({"5"})
+    public int limit;
+
+    private ExecutorService executor;
+    private PokemonService pokemonService;
+    private List<Pokemon> pokemons;
+
+    @Setup
+    public void setUp() {
+        PokemonProperties properties = new PokemonProperties();
+        properties.getCrawl().setPageSize(1000);
+        executor = Executors.newFixedThreadPool(properties.getCrawl().getConcurrency());
+        pokemonService = new PokemonService(new SyntheticPokeApi(size), new PokemonCache(properties), properties, executor);
+        pokemons = pokemonService.getAllPokemons();
+        if (pokemons.size() != size) {
+            throw new IllegalStateException("Loaded " + pokemons.size() + " of " + size + " Pokémon");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<Pokemon> heaviest() {
+        return pokemonService.getHeaviestPokemons(limit);
+    }
+
+    @Benchmark
+    public List<Pokemon> highest() {
+        return pokemonService.getHighestPokemons(limit);
+    }
+
+    @Benchmark
+    public List<Pokemon> mostExperienced() {
+        return pokemonService.getPokemonsByBaseExperience(limit);
+    }
+
+    @Benchmark
+    public RankingIndex buildIndex() {
+        return RankingIndex.build(pokemons);
+    }
+}
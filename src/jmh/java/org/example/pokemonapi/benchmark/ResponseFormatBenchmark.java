@@ -0,0 +1,117 @@
+package org.example.pokemonapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.example.pokemonapi.controller.PokemonFields;
+import org.example.pokemonapi.controller.PokemonProtobufConverter;
+import org.example.pokemonapi.model.Pokemon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding a list of Pokémon with types, stats and abilities as JSON, CBOR,
+ * Smile and protobuf, the way the response converters do. Setup prints the
+ * size of each payload, raw and gzipped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    private static final Type POKEMON_LIST = new ParameterizedTypeReference<List<Pokemon>>() {
+    }.getType();
+
+    @Param({"100", "1300"})
+    public int size;
+
+    private final ObjectWriter json = writer(new JsonFactory());
+    private final ObjectWriter cbor = writer(new CBORFactory());
+    private final ObjectWriter smile = writer(new SmileFactory());
+    private final PokemonProtobufConverter protobufConverter = new PokemonProtobufConverter();
+    private List<Pokemon> pokemons;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> types = List.of("grass", "poison", "fire", "flying", "water", "bug", "normal", "electric");
+        List<String> abilities = List.of("overgrow", "chlorophyll", "blaze", "solar-power", "torrent", "rain-dish");
+        Random random = new Random(42);
+        pokemons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map<String, Integer> stats = new LinkedHashMap<>();
+            for (String stat : Pokemon.STATS) {
+                stats.put(stat, 1 + random.nextInt(255));
+            }
+            pokemons.add(new Pokemon("pokemon-" + i, 1 + random.nextInt(10_000), 1 + random.nextInt(200), random.nextInt(400),
+                    List.of(types.get(random.nextInt(4)), types.get(4 + random.nextInt(4))), stats,
+                    List.of(abilities.get(random.nextInt(3)), abilities.get(3 + random.nextInt(3)))));
+        }
+        System.out.printf("%n%d Pokemon, raw / gzipped bytes: JSON %s, CBOR %s, Smile %s, protobuf %s%n", size,
+                sizes(json()), sizes(cbor()), sizes(smile()), sizes(protobuf()));
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return json.writeValueAsBytes(pokemons);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cbor.writeValueAsBytes(pokemons);
+    }
+
+    @Benchmark
+    public byte[] smile() throws IOException {
+        return smile.writeValueAsBytes(pokemons);
+    }
+
+    @Benchmark
+    public byte[] protobuf() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        protobufConverter.write(pokemons, POKEMON_LIST, PokemonProtobufConverter.PROTOBUF, message);
+        return message.getBodyAsBytes();
+    }
+
+    // The mappers the application builds: Pokemon behind the ?fields= filter, writing every field.
+    private static ObjectWriter writer(JsonFactory factory) {
+        return new ObjectMapper(factory)
+                .addMixIn(Pokemon.class, PokemonFields.Filtered.class)
+                .setFilterProvider(PokemonFields.ALL)
+                .writer();
+    }
+
+    private static String sizes(byte[] payload) throws IOException {
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+            out.write(payload);
+        }
+        return String.format("%,d / %,d", payload.length, gzipped.size());
+    }
+}
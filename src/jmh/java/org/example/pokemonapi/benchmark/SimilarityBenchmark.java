@@ -0,0 +1,117 @@
+package org.example.pokemonapi.benchmark;
+
+import org.example.pokemonapi.index.SimilarityIndex;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.store.HeapPokemonStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ten nearest neighbours of a Pokémon from SimilarityIndex next to a scan
+ * that scores every Pokémon and keeps the best ten in a heap, both with z-score
+ * normalization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimilarityBenchmark {
+
+    private static final int K = 10;
+
+    @Param({"1300", "100000"})
+    public int size;
+
+    private List<Pokemon> pokemons;
+    private SimilarityIndex index;
+    private Pokemon query;
+    private final double[] mean = new double[3];
+    private final double[] deviation = new double[3];
+
+    @Setup
+    public void setUp() {
+        pokemons = new ArrayList<>(size);
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            pokemons.add(new Pokemon("pokemon-" + i, 1 + random.nextInt(10_000), 1 + random.nextInt(200), random.nextInt(400)));
+        }
+        index = SimilarityIndex.build(new HeapPokemonStore(pokemons), SimilarityIndex.Normalization.Z_SCORE);
+        query = pokemons.get(size / 2);
+        for (int axis = 0; axis < 3; axis++) {
+            double sum = 0;
+            double sumOfSquares = 0;
+            for (Pokemon pokemon : pokemons) {
+                double value = value(pokemon, axis);
+                sum += value;
+                sumOfSquares += value * value;
+            }
+            mean[axis] = sum / size;
+            deviation[axis] = Math.sqrt(sumOfSquares / size - mean[axis] * mean[axis]);
+        }
+    }
+
+    @Benchmark
+    public List<Pokemon> kdTree() {
+        return index.nearest(query, K);
+    }
+
+    @Benchmark
+    public List<Pokemon> scan() {
+        PriorityQueue<Scored> best = new PriorityQueue<>(Comparator.comparingDouble(Scored::distance).reversed());
+        for (Pokemon pokemon : pokemons) {
+            if (pokemon == query) {
+                continue;
+            }
+            double distance = 0;
+            for (int axis = 0; axis < 3; axis++) {
+                double delta = (value(pokemon, axis) - value(query, axis)) / deviation[axis];
+                distance += delta * delta;
+            }
+            if (best.size() < K) {
+                best.add(new Scored(pokemon, distance));
+            } else if (distance < best.peek().distance()) {
+                best.poll();
+                best.add(new Scored(pokemon, distance));
+            }
+        }
+        List<Pokemon> result = new ArrayList<>(K);
+        while (!best.isEmpty()) {
+            result.add(0, best.poll().pokemon());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public SimilarityIndex buildIndex() {
+        return SimilarityIndex.build(new HeapPokemonStore(pokemons), SimilarityIndex.Normalization.Z_SCORE);
+    }
+
+    private static double value(Pokemon pokemon, int axis) {
+        return switch (axis) {
+            case 0 -> pokemon.getWeight();
+            case 1 -> pokemon.getHeight();
+            default -> pokemon.getBaseExperience();
+        };
+    }
+
+    private record Scored(Pokemon pokemon, double distance) {
+    }
+}
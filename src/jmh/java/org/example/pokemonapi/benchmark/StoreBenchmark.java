@@ -0,0 +1,95 @@
+package org.example.pokemonapi.benchmark;
+
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.index.RankingIndex;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.store.ColumnarPokemonStore;
+import org.example.pokemonapi.store.PokemonStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Column scans and ranking index builds for each {@code pokemon.store.type}.
+ * Run with {@code -prof gc} to check that the scans allocate nothing. Setup
+ * prints the footprint of the store next to that of the plain
+ * {@code List<Pokemon>}, split into GC heap and off-heap bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StoreBenchmark {
+
+    @Param({"1300", "100000"})
+    public int size;
+
+    @Param({"HEAP", "OFF_HEAP", "MAPPED"})
+    public PokemonProperties.Store.Type type;
+
+    private PokemonStore store;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<Pokemon> pokemons = new ArrayList<>(size);
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            pokemons.add(new Pokemon("pokemon-" + i, 1 + random.nextInt(10_000), 1 + random.nextInt(200), random.nextInt(400)));
+        }
+        PokemonProperties.Store settings = new PokemonProperties.Store();
+        settings.setType(type);
+        settings.setDirectory(Files.createTempDirectory("store-benchmark"));
+        store = PokemonStore.of(pokemons, settings);
+
+        long listBytes = GraphLayout.parseInstance(pokemons).totalSize();
+        long heapBytes = GraphLayout.parseInstance(store).totalSize();
+        long offHeapBytes = store instanceof ColumnarPokemonStore columnar ? columnar.columnBytes() : 0;
+        System.out.printf("%nList<Pokemon>: %,d heap bytes; %s store: %,d heap bytes, %,d off-heap bytes%n",
+                listBytes, type, heapBytes, offHeapBytes);
+    }
+
+    @Benchmark
+    public long sumWeights() {
+        long sum = 0;
+        for (int row = 0, n = store.size(); row < n; row++) {
+            sum += store.weight(row);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int tallestRow() {
+        int best = -1;
+        int bestHeight = Integer.MIN_VALUE;
+        for (int row = 0, n = store.size(); row < n; row++) {
+            int height = store.height(row);
+            if (height > bestHeight) {
+                bestHeight = height;
+                best = row;
+            }
+        }
+        return best;
+    }
+
+    @Benchmark
+    public RankingIndex buildIndex() {
+        return RankingIndex.build(store);
+    }
+}
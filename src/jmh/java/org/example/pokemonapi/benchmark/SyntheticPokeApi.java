@@ -0,0 +1,67 @@
+package org.example.pokemonapi.benchmark;
+
+import org.example.pokemonapi.service.PokemonService;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory stand-in for PokeAPI serving a deterministic dex of {@code size}
+ * Pokémon, so benchmarks measure this service and not the network.
+ */
+class SyntheticPokeApi extends RestTemplate {
+
+    private static final String BASE_URL = "https://pokeapi.co/api/v2/pokemon/";
+    private static final Pattern PAGE = Pattern.compile("\\?offset=(\\d+)&limit=(\\d+)");
+
+    private final int size;
+    private final int[] weights;
+    private final int[] heights;
+    private final int[] baseExperiences;
+
+    SyntheticPokeApi(int size) {
+        this.size = size;
+        this.weights = new int[size];
+        this.heights = new int[size];
+        this.baseExperiences = new int[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1 + random.nextInt(10_000);
+            heights[i] = 1 + random.nextInt(200);
+            baseExperiences[i] = random.nextInt(400);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getForObject(String url, Class<T> responseType, Object... uriVariables) {
+        String path = url.substring(BASE_URL.length());
+        Matcher page = PAGE.matcher(path);
+        if (page.matches()) {
+            return (T) page(Integer.parseInt(page.group(1)), Integer.parseInt(page.group(2)));
+        }
+        int index = Integer.parseInt(path.substring(path.lastIndexOf('-') + 1));
+        PokemonService.PokemonResponse response = new PokemonService.PokemonResponse(
+                name(index), weights[index], heights[index], baseExperiences[index]);
+        response.id = index + 1;
+        return (T) response;
+    }
+
+    private PokemonService.PokemonListResponse page(int offset, int limit) {
+        int end = Math.min(size, offset + limit);
+        List<PokemonService.PokemonResult> results = new ArrayList<>(Math.max(0, end - offset));
+        for (int i = offset; i < end; i++) {
+            results.add(new PokemonService.PokemonResult(name(i), BASE_URL + (i + 1) + "/"));
+        }
+        String next = end < size ? BASE_URL + "?offset=" + end + "&limit=" + limit : null;
+        return new PokemonService.PokemonListResponse(size, next, results);
+    }
+
+    private static String name(int index) {
+        return "pokemon-" + index;
+    }
+}
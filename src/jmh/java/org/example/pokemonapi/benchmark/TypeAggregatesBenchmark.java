@@ -0,0 +1,103 @@
+package org.example.pokemonapi.benchmark;
+
+import org.example.pokemonapi.index.TypeAggregates;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.model.TypeSummary;
+import org.example.pokemonapi.store.HeapPokemonStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IntSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The summary of every type and the five heaviest Pokémon of one type from
+ * TypeAggregates next to the scans they replace, over a dex spread across the
+ * eighteen PokeAPI types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeAggregatesBenchmark {
+
+    private static final List<String> TYPES = List.of("normal", "fighting", "flying", "poison", "ground", "rock",
+            "bug", "ghost", "steel", "fire", "water", "grass", "electric", "psychic", "ice", "dragon", "dark", "fairy");
+
+    @Param({"1300", "100000"})
+    public int size;
+
+    private List<Pokemon> pokemons;
+    private TypeAggregates aggregates;
+
+    @Setup
+    public void setUp() {
+        pokemons = new ArrayList<>(size);
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            Map<String, Integer> stats = new LinkedHashMap<>();
+            for (String stat : Pokemon.STATS) {
+                stats.put(stat, 1 + random.nextInt(255));
+            }
+            String first = TYPES.get(random.nextInt(TYPES.size()));
+            String second = TYPES.get(random.nextInt(TYPES.size()));
+            pokemons.add(new Pokemon("pokemon-" + i, 1 + random.nextInt(10_000), 1 + random.nextInt(200),
+                    random.nextInt(400), first.equals(second) ? List.of(first) : List.of(first, second), stats, List.of()));
+        }
+        aggregates = TypeAggregates.build(new HeapPokemonStore(pokemons));
+    }
+
+    @Benchmark
+    public List<TypeSummary> summariesFromAggregates() {
+        return aggregates.summaries();
+    }
+
+    @Benchmark
+    public Map<String, IntSummaryStatistics> summariesByScan() {
+        // Weight only; the aggregates cover all nine attributes.
+        Map<String, IntSummaryStatistics> summaries = new TreeMap<>();
+        for (Pokemon pokemon : pokemons) {
+            for (String type : pokemon.getTypes()) {
+                summaries.computeIfAbsent(type, t -> new IntSummaryStatistics()).accept(pokemon.getWeight());
+            }
+        }
+        return summaries;
+    }
+
+    @Benchmark
+    public List<Pokemon> topFromAggregates() {
+        return aggregates.top("fire", "weight", 5);
+    }
+
+    @Benchmark
+    public List<Pokemon> topByScan() {
+        return pokemons.stream()
+                .filter(pokemon -> pokemon.getTypes().contains("fire"))
+                .sorted(Comparator.comparingInt(Pokemon::getWeight).reversed())
+                .limit(5)
+                .toList();
+    }
+
+    @Benchmark
+    public TypeAggregates buildAggregates() {
+        return TypeAggregates.build(new HeapPokemonStore(pokemons));
+    }
+}
@@ -1,21 +1,15 @@
 package org.example.pokemonapi;
 
+import org.example.pokemonapi.config.PokemonProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.context.annotation.Bean;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableCaching
+@EnableConfigurationProperties(PokemonProperties.class)
 public class PokemonApiApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(PokemonApiApplication.class, args);
 	}
-
-	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
-	}
 }
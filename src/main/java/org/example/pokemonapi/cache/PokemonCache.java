@@ -0,0 +1,179 @@
+package org.example.pokemonapi.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.model.Pokemon;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-Pokémon read-through cache. Entries are stored once under the normalized
+ * name; numeric ids resolve to that entry through an alias table, so "25" and
+ * "pikachu" share the same slot. An entry has up to two aliases, its id and the
+ * key it was requested by, so the alias table holds twice as many keys as there
+ * are entries and no alias is evicted before its entry. Unknown keys are
+ * remembered for a short time.
+ * The last known Pokémon and its ETag and Last-Modified outlive the entry, so an
+ * expired Pokémon can be revalidated with a conditional request instead of
+ * downloaded, or served stale while PokeAPI is unavailable.
+ */
+@Component
+public class PokemonCache implements MeterBinder {
+
+    private static final int KEYS_PER_ENTRY = 2;
+
+    private final Cache<String, Pokemon> entries;
+    private final Cache<String, String> aliases;
+    private final Cache<String, Boolean> missing;
+    private final Cache<String, LastKnown> lastKnown;
+    private final LongAdder notModified = new LongAdder();
+
+    @Autowired
+    public PokemonCache(PokemonProperties properties) {
+        this(properties, Ticker.systemTicker());
+    }
+
+    public PokemonCache(PokemonProperties properties, Ticker ticker) {
+        PokemonProperties.Cache settings = properties.getCache();
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxSize())
+                .expireAfterWrite(settings.getTtl())
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        this.aliases = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxSize() * KEYS_PER_ENTRY)
+                .expireAfterWrite(settings.getTtl())
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .build();
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(settings.getNegativeMaxSize())
+                .expireAfterWrite(settings.getNegativeTtl())
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        this.lastKnown = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxSize() * KEYS_PER_ENTRY) // under the name and the requested key
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public static String normalize(String nameOrId) {
+        String key = nameOrId.trim().toLowerCase(Locale.ROOT);
+        if (!key.isEmpty() && key.chars().allMatch(Character::isDigit)) {
+            try {
+                return String.valueOf(Integer.parseInt(key));
+            } catch (NumberFormatException e) {
+                return key;
+            }
+        }
+        return key;
+    }
+
+    public Pokemon get(String key) {
+        String name = aliases.getIfPresent(key);
+        return entries.getIfPresent(name != null ? name : key);
+    }
+
+    /** Like {@link #get}, but not counted as a hit or miss: for re-checking a key already looked up. */
+    public Pokemon peek(String key) {
+        String name = aliases.getIfPresent(key);
+        return entries.asMap().get(name != null ? name : key);
+    }
+
+    public boolean isKnownMissing(String key) {
+        return missing.getIfPresent(key) != null;
+    }
+
+    public void put(String key, int id, Pokemon pokemon) {
+        put(key, id, pokemon, null, null);
+    }
+
+    public void put(String key, int id, Pokemon pokemon, String etag, String lastModified) {
+        String name = normalize(pokemon.getName());
+        LastKnown known = new LastKnown(id, pokemon, etag, lastModified);
+        lastKnown.put(name, known);
+        if (!key.equals(name)) {
+            lastKnown.put(key, known);
+        }
+        entries.put(name, pokemon);
+        if (id > 0) {
+            aliases.put(String.valueOf(id), name);
+        }
+        if (!key.equals(name)) {
+            aliases.put(key, name);
+        }
+        missing.invalidate(key);
+    }
+
+    /** Last Pokémon and validators fetched for {@code key}, kept after the entry itself expires, or null. */
+    public LastKnown getLastKnown(String key) {
+        return lastKnown.getIfPresent(key);
+    }
+
+    /** Upstream answered 304 for {@code key}: serve the last known Pokémon for another TTL. */
+    public void putNotModified(String key, LastKnown known) {
+        put(key, known.id(), known.pokemon(), known.etag(), known.lastModified());
+        notModified.increment();
+    }
+
+    public void putMissing(String key) {
+        missing.put(key, Boolean.TRUE);
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+        aliases.invalidateAll();
+        missing.invalidateAll();
+        lastKnown.invalidateAll();
+    }
+
+    public PokemonCacheStats stats() {
+        CacheStats stats = entries.stats();
+        return new PokemonCacheStats(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                missing.stats().hitCount(),
+                notModified.sum(),
+                entries.estimatedSize()
+        );
+    }
+
+    /**
+     * Publishes the Caffeine statistics of the entries and the negative cache,
+     * plus the entry hit ratio and the number of 304 revalidations.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, entries, "pokemon");
+        CaffeineCacheMetrics.monitor(registry, missing, "pokemon-missing");
+        Gauge.builder("pokemon.cache.hit.ratio", entries, cache -> cache.stats().hitRate())
+                .description("Share of Pokémon lookups answered from the cache")
+                .register(registry);
+        FunctionCounter.builder("pokemon.cache.not.modified", notModified, LongAdder::sum)
+                .description("Expired Pokémon revalidated by a 304 from PokeAPI")
+                .register(registry);
+    }
+
+    public record LastKnown(int id, Pokemon pokemon, String etag, String lastModified) {
+        public boolean isRevalidatable() {
+            return etag != null || lastModified != null;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.pokemonapi.cache;
+
+public class PokemonCacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long negativeHits;
+    private final long notModified;
+    private final long size;
+
+    public PokemonCacheStats(long hits, long misses, long evictions, long negativeHits, long notModified, long size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.negativeHits = negativeHits;
+        this.notModified = notModified;
+        this.size = size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getNegativeHits() {
+        return negativeHits;
+    }
+
+    public long getNotModified() {
+        return notModified;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public double getHitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.pokemonapi.client;
+
+import java.io.IOException;
+
+/**
+ * A call to an upstream was rejected before it was sent: its circuit breaker
+ * is open, its bulkhead is full or its rate limit is exhausted.
+ */
+public class CallNotPermittedException extends IOException {
+    public CallNotPermittedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.pokemonapi.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.pokemonapi.service.PokemonService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a PokeAPI {@code /pokemon/{id}} response token by token, keeping the
+ * top-level fields PokemonResponse needs and the names in {@code types},
+ * {@code stats} and {@code abilities}. Everything else ({@code moves},
+ * {@code game_indices}, {@code sprites}, ...) is skipped without being built
+ * into objects. PokeAPI sorts keys alphabetically, so {@code weight} is the last
+ * field; reading to the end costs nothing extra and leaves the connection
+ * ready for reuse. The response's ETag and Last-Modified headers are kept too,
+ * for later conditional requests.
+ */
+public class PokemonResponseConverter extends AbstractHttpMessageConverter<PokemonService.PokemonResponse> {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public PokemonResponseConverter() {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PokemonService.PokemonResponse.class == clazz;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PokemonService.PokemonResponse readInternal(Class<? extends PokemonService.PokemonResponse> clazz,
+                                                          HttpInputMessage inputMessage) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(inputMessage.getBody())) {
+            PokemonService.PokemonResponse response = read(parser);
+            response.etag = inputMessage.getHeaders().getETag();
+            response.lastModified = inputMessage.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+            return response;
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("Could not read Pokémon: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    public static PokemonService.PokemonResponse read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object");
+        }
+        PokemonService.PokemonResponse response = new PokemonService.PokemonResponse();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> response.id = intValue(parser);
+                case "name" -> response.name = parser.getValueAsString();
+                case "weight" -> response.weight = intValue(parser);
+                case "height" -> response.height = intValue(parser);
+                case "base_experience" -> response.base_experience = intValue(parser);
+                case "types" -> response.types = array(parser, PokemonResponseConverter::typeSlot);
+                case "stats" -> response.stats = array(parser, PokemonResponseConverter::statEntry);
+                case "abilities" -> response.abilities = array(parser, PokemonResponseConverter::abilitySlot);
+                default -> parser.skipChildren();
+            }
+        }
+        return response;
+    }
+
+    private static <T> List<T> array(JsonParser parser, Reader<T> element) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return List.of();
+        }
+        List<T> elements = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            elements.add(element.read(parser));
+        }
+        return elements;
+    }
+
+    private static PokemonService.TypeSlot typeSlot(JsonParser parser) throws IOException {
+        PokemonService.TypeSlot slot = new PokemonService.TypeSlot();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "slot" -> slot.slot = intValue(parser);
+                case "type" -> slot.type = namedResource(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return slot;
+    }
+
+    private static PokemonService.StatEntry statEntry(JsonParser parser) throws IOException {
+        PokemonService.StatEntry entry = new PokemonService.StatEntry();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "base_stat" -> entry.base_stat = intValue(parser);
+                case "effort" -> entry.effort = intValue(parser);
+                case "stat" -> entry.stat = namedResource(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return entry;
+    }
+
+    private static PokemonService.AbilitySlot abilitySlot(JsonParser parser) throws IOException {
+        PokemonService.AbilitySlot slot = new PokemonService.AbilitySlot();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "ability" -> slot.ability = namedResource(parser);
+                case "is_hidden" -> slot.is_hidden = parser.getValueAsBoolean();
+                case "slot" -> slot.slot = intValue(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return slot;
+    }
+
+    // Only the name is kept; the url repeats the id PokeAPI already gives us.
+    private static PokemonService.NamedResource namedResource(JsonParser parser) throws IOException {
+        PokemonService.NamedResource resource = new PokemonService.NamedResource();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return resource;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                resource.name = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return resource;
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    // PokeAPI sends null base_experience for some forms; databind mapped that to 0 as well.
+    private static int intValue(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? 0 : parser.getValueAsInt();
+    }
+
+    @Override
+    protected void writeInternal(PokemonService.PokemonResponse response, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("PokemonResponse is only read from PokeAPI");
+    }
+}
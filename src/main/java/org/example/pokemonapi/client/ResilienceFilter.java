@@ -0,0 +1,156 @@
+package org.example.pokemonapi.client;
+
+import org.example.pokemonapi.config.PokemonProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link ResilienceInterceptor} for WebClient: the same per-host circuit
+ * breaker, adaptive token bucket, bulkhead and retries, with backoff and
+ * rate-limit waits scheduled instead of slept. Only a bulkhead that is full
+ * waits on a boundedElastic thread. Rejected calls fail with a
+ * WebClientRequestException caused by {@link CallNotPermittedException}, the
+ * way a connection failure is reported.
+ */
+public class ResilienceFilter implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(ResilienceFilter.class);
+
+    private final PokemonProperties.Resilience settings;
+    private final LongSupplier nanoTime;
+    private final Map<String, ResilienceInterceptor.Upstream> upstreams = new ConcurrentHashMap<>();
+
+    public ResilienceFilter(PokemonProperties.Resilience settings) {
+        this(settings, System::nanoTime);
+    }
+
+    public ResilienceFilter(PokemonProperties.Resilience settings, LongSupplier nanoTime) {
+        this.settings = settings;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        ResilienceInterceptor.Upstream upstream = upstream(request.url().getHost());
+        int maxAttempts = request.method() == HttpMethod.GET ? Math.max(1, settings.getMaxAttempts()) : 1;
+        return attempt(request, next, upstream, 1, maxAttempts);
+    }
+
+    public CircuitBreaker.State circuitState(String host) {
+        return upstream(host).breaker().state();
+    }
+
+    private Mono<ClientResponse> attempt(ClientRequest request, ExchangeFunction next,
+                                         ResilienceInterceptor.Upstream upstream, int attempt, int maxAttempts) {
+        return Mono.defer(() -> {
+            String host = request.url().getHost();
+            if (!upstream.breaker().tryAcquire()) {
+                return rejected(request, "Circuit breaker for " + host + " is open");
+            }
+            Duration wait = upstream.bucket().tryReserve(settings.getMaxBackoff());
+            if (wait == null) {
+                upstream.breaker().release();
+                return rejected(request, "Rate limit for " + host + " is exhausted");
+            }
+            boolean lastAttempt = attempt == maxAttempts;
+            // As in ResilienceInterceptor, a permit that never reaches the upstream is handed back.
+            AtomicBoolean settled = new AtomicBoolean();
+            return Mono.delay(wait)
+                    .then(Mono.defer(() -> execute(upstream, request, next)))
+                    .map(response -> onResponse(response, request, next, upstream, attempt, maxAttempts, settled))
+                    .onErrorResume(WebClientRequestException.class, e -> {
+                        if (e.getCause() instanceof CallNotPermittedException) {
+                            return Mono.error(e);
+                        }
+                        upstream.breaker().onFailure();
+                        settled.set(true);
+                        if (lastAttempt) {
+                            return Mono.error(e);
+                        }
+                        log.debug("Retrying {} after {}", request.url(), e.toString());
+                        return Mono.just(Mono.delay(backoff(attempt))
+                                .then(attempt(request, next, upstream, attempt + 1, maxAttempts)));
+                    })
+                    .flatMap(Function.identity())
+                    .doFinally(signal -> {
+                        if (!settled.get()) {
+                            upstream.breaker().release();
+                        }
+                    });
+        });
+    }
+
+    // Returns the response itself, or the retry that replaces it.
+    private Mono<ClientResponse> onResponse(ClientResponse response, ClientRequest request, ExchangeFunction next,
+                                            ResilienceInterceptor.Upstream upstream, int attempt, int maxAttempts,
+                                            AtomicBoolean settled) {
+        int status = response.statusCode().value();
+        if (!ResilienceInterceptor.RETRYABLE.contains(status)) {
+            upstream.breaker().onSuccess();
+            settled.set(true);
+            upstream.bucket().onSuccess();
+            return Mono.just(response);
+        }
+        Duration retryAfter = ResilienceInterceptor.retryAfter(response.headers().asHttpHeaders());
+        Duration delay = retryAfter == null ? backoff(attempt) : retryAfter;
+        boolean throttled = status == HttpStatus.TOO_MANY_REQUESTS.value();
+        if (throttled) {
+            upstream.breaker().onSuccess(); // the upstream is up, just asking us to slow down
+        } else {
+            upstream.breaker().onFailure();
+        }
+        settled.set(true);
+        // A throttle or Retry-After pauses every caller through the bucket, not only this one.
+        boolean paused = throttled || retryAfter != null;
+        if (paused) {
+            upstream.bucket().onThrottled(delay);
+        }
+        if (attempt == maxAttempts || delay.compareTo(settings.getMaxBackoff()) > 0) {
+            return Mono.just(response);
+        }
+        log.debug("Retrying {} after HTTP {}", request.url(), status);
+        Mono<ClientResponse> retry = attempt(request, next, upstream, attempt + 1, maxAttempts);
+        return response.releaseBody().then(paused ? retry : Mono.delay(delay).then(retry));
+    }
+
+    private Mono<ClientResponse> execute(ResilienceInterceptor.Upstream upstream, ClientRequest request,
+                                         ExchangeFunction next) {
+        Mono<Boolean> acquired = upstream.bulkhead().tryAcquire()
+                ? Mono.just(true)
+                : Mono.fromCallable(() -> upstream.bulkhead().tryAcquire(settings.getBulkheadWait().toNanos(), TimeUnit.NANOSECONDS))
+                        .subscribeOn(Schedulers.boundedElastic());
+        return acquired.flatMap(slot -> slot
+                ? next.exchange(request).doFinally(signal -> upstream.bulkhead().release())
+                : rejected(request, "Too many concurrent calls to " + request.url().getHost()));
+    }
+
+    private ResilienceInterceptor.Upstream upstream(String host) {
+        return upstreams.computeIfAbsent(host, h -> ResilienceInterceptor.Upstream.create(settings, nanoTime));
+    }
+
+    private Duration backoff(int attempt) {
+        return ResilienceInterceptor.backoff(settings, attempt);
+    }
+
+    private static <T> Mono<T> rejected(ClientRequest request, String message) {
+        return Mono.error(new WebClientRequestException(new CallNotPermittedException(message),
+                request.method(), request.url(), request.headers()));
+    }
+}
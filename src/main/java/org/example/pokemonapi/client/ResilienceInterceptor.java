@@ -0,0 +1,199 @@
+package org.example.pokemonapi.client;
+
+import org.example.pokemonapi.config.PokemonProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Guards every RestTemplate call, per upstream host, with a circuit breaker,
+ * an adaptive token bucket and a bulkhead on concurrent calls. GET requests
+ * that fail with an I/O error, 429 or 5xx are retried with full-jitter
+ * exponential backoff, or after Retry-After when the upstream sends one.
+ * Rejected calls fail with {@link CallNotPermittedException}, which the
+ * RestTemplate reports as a ResourceAccessException. {@link ResilienceFilter}
+ * applies the same policy to WebClient calls.
+ */
+public class ResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(ResilienceInterceptor.class);
+    static final Set<Integer> RETRYABLE = Set.of(429, 500, 502, 503, 504);
+
+    private final PokemonProperties.Resilience settings;
+    private final LongSupplier nanoTime;
+    private final Map<String, Upstream> upstreams = new ConcurrentHashMap<>();
+
+    public ResilienceInterceptor(PokemonProperties.Resilience settings) {
+        this(settings, System::nanoTime);
+    }
+
+    public ResilienceInterceptor(PokemonProperties.Resilience settings, LongSupplier nanoTime) {
+        this.settings = settings;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Upstream upstream = upstream(request.getURI().getHost());
+        int maxAttempts = request.getMethod() == HttpMethod.GET ? Math.max(1, settings.getMaxAttempts()) : 1;
+        for (int attempt = 1; ; attempt++) {
+            boolean lastAttempt = attempt == maxAttempts;
+            if (!upstream.breaker.tryAcquire()) {
+                throw new CallNotPermittedException("Circuit breaker for " + request.getURI().getHost() + " is open");
+            }
+            // A permit that never reaches the upstream must be given back, or a half-open breaker
+            // keeps waiting for the outcome of a trial call that was never made.
+            boolean settled = false;
+            try {
+                Duration wait = upstream.bucket.tryReserve(settings.getMaxBackoff());
+                if (wait == null) {
+                    throw new CallNotPermittedException("Rate limit for " + request.getURI().getHost() + " is exhausted");
+                }
+                sleep(wait);
+
+                ClientHttpResponse response;
+                try {
+                    response = execute(upstream, request, body, execution);
+                } catch (CallNotPermittedException e) {
+                    throw e;
+                } catch (IOException e) {
+                    upstream.breaker.onFailure();
+                    settled = true;
+                    if (lastAttempt) {
+                        throw e;
+                    }
+                    log.debug("Retrying {} after {}", request.getURI(), e.toString());
+                    sleep(backoff(settings, attempt));
+                    continue;
+                }
+
+                int status = response.getStatusCode().value();
+                if (!RETRYABLE.contains(status)) {
+                    upstream.breaker.onSuccess();
+                    settled = true;
+                    upstream.bucket.onSuccess();
+                    return response;
+                }
+                Duration retryAfter = retryAfter(response.getHeaders());
+                Duration delay = retryAfter == null ? backoff(settings, attempt) : retryAfter;
+                boolean throttled = status == HttpStatus.TOO_MANY_REQUESTS.value();
+                if (throttled) {
+                    upstream.breaker.onSuccess(); // the upstream is up, just asking us to slow down
+                } else {
+                    upstream.breaker.onFailure();
+                }
+                settled = true;
+                // A throttle or Retry-After pauses every caller through the bucket, not only this one.
+                boolean paused = throttled || retryAfter != null;
+                if (paused) {
+                    upstream.bucket.onThrottled(delay);
+                }
+                if (lastAttempt || delay.compareTo(settings.getMaxBackoff()) > 0) {
+                    return response;
+                }
+                response.close();
+                log.debug("Retrying {} after HTTP {}", request.getURI(), status);
+                if (!paused) {
+                    sleep(delay);
+                }
+            } finally {
+                if (!settled) {
+                    upstream.breaker.release();
+                }
+            }
+        }
+    }
+
+    public CircuitBreaker.State circuitState(String host) {
+        return upstream(host).breaker.state();
+    }
+
+    private ClientHttpResponse execute(Upstream upstream, HttpRequest request, byte[] body,
+                                       ClientHttpRequestExecution execution) throws IOException {
+        try {
+            if (!upstream.bulkhead.tryAcquire(settings.getBulkheadWait().toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new CallNotPermittedException("Too many concurrent calls to " + request.getURI().getHost());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a call slot");
+        }
+        try {
+            return execution.execute(request, body);
+        } finally {
+            upstream.bulkhead.release();
+        }
+    }
+
+    private Upstream upstream(String host) {
+        return upstreams.computeIfAbsent(host, h -> Upstream.create(settings, nanoTime));
+    }
+
+    static Duration backoff(PokemonProperties.Resilience settings, int attempt) {
+        long ceiling = Math.min(settings.getMaxBackoff().toNanos(),
+                settings.getBackoff().toNanos() << Math.min(attempt - 1, 20));
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    // Retry-After is either a number of seconds or an HTTP date.
+    static Duration retryAfter(HttpHeaders headers) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                Duration until = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return until.isNegative() ? Duration.ZERO : until;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private static void sleep(Duration delay) throws InterruptedIOException {
+        if (delay.isZero()) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while backing off");
+        }
+    }
+
+    record Upstream(CircuitBreaker breaker, TokenBucket bucket, Semaphore bulkhead) {
+
+        static Upstream create(PokemonProperties.Resilience settings, LongSupplier nanoTime) {
+            return new Upstream(
+                    new CircuitBreaker(settings.getFailureThreshold(), settings.getOpenDuration(), nanoTime),
+                    new TokenBucket(settings.getRequestsPerSecond(), settings.getBurst(), nanoTime),
+                    new Semaphore(settings.getMaxConcurrentCalls()));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.pokemonapi.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket whose rate adapts to the upstream: a throttled response halves
+ * the rate and pauses the bucket for the Retry-After period, and every
+ * successful call adds back a twentieth of the configured rate. Callers reserve
+ * a token and sleep for the returned wait, so concurrent callers queue in
+ * order instead of spinning.
+ */
+public class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double maxRate;
+    private final double capacity;
+    private final LongSupplier nanoTime;
+    private double rate;
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(double requestsPerSecond, int burst, LongSupplier nanoTime) {
+        this.maxRate = requestsPerSecond;
+        this.capacity = Math.max(1, burst);
+        this.nanoTime = nanoTime;
+        this.rate = requestsPerSecond;
+        this.tokens = capacity;
+        this.refilledAt = nanoTime.getAsLong();
+    }
+
+    /**
+     * Takes one token and returns how long the caller has to wait before using
+     * it, or null without taking a token if that wait would exceed {@code maxWait}.
+     */
+    public synchronized Duration tryReserve(Duration maxWait) {
+        long now = nanoTime.getAsLong();
+        refill(now);
+        long wait = Math.max(0, refilledAt - now);
+        if (tokens < 1) {
+            wait += (long) ((1 - tokens) / rate * NANOS_PER_SECOND);
+        }
+        if (wait > maxWait.toNanos()) {
+            return null;
+        }
+        tokens -= 1;
+        return Duration.ofNanos(wait);
+    }
+
+    public synchronized void onThrottled(Duration retryAfter) {
+        long now = nanoTime.getAsLong();
+        refill(now);
+        rate = Math.max(maxRate / 64, rate / 2);
+        tokens = Math.min(tokens, 0);
+        refilledAt = Math.max(refilledAt, now + retryAfter.toNanos());
+    }
+
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + maxRate / 20);
+    }
+
+    public synchronized double rate() {
+        return rate;
+    }
+
+    // refilledAt lies in the future while the bucket is paused.
+    private void refill(long now) {
+        if (now > refilledAt) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) / NANOS_PER_SECOND * rate);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.pokemonapi.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.http.HttpTimeoutException;
+
+/**
+ * Times every request sent to an upstream host as {@code pokeapi.requests},
+ * tagged with the host and an outcome: the status code, {@code 5xx},
+ * {@code timeout} or {@code io_error}. It sits on the request factory, below
+ * the RestTemplate interceptors, so each retry is timed as its own request.
+ * The latency histogram lets Prometheus compute percentiles across instances.
+ */
+public class UpstreamMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final String METRIC = "pokeapi.requests";
+
+    private final MeterRegistry registry;
+
+    public UpstreamMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "io_error";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getStatusCode().value();
+            outcome = status >= 500 ? "5xx" : String.valueOf(status);
+            return response;
+        } catch (InterruptedIOException | HttpTimeoutException e) {
+            outcome = "timeout";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .description("Requests sent to PokeAPI, one per attempt")
+                    .tag("host", String.valueOf(request.getURI().getHost()))
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+}
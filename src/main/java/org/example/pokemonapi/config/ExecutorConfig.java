@@ -0,0 +1,71 @@
+package org.example.pokemonapi.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Executor for PokeAPI fan-out. A fixed pool of platform threads, one virtual
+ * thread per task, or virtual threads of which at most
+ * {@code max-concurrency} run at a time. The virtual modes need Java 21.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    public static final String THREAD_NAME_PREFIX = "pokeapi-";
+
+    // Spring initializes the pool and shuts it down with the context. Not a default
+    // candidate, so Boot still creates applicationTaskExecutor for MVC async requests.
+    @Bean(defaultCandidate = false)
+    public AsyncTaskExecutor pokeApiExecutor(PokemonProperties properties) {
+        return createExecutor(properties.getExecutor());
+    }
+
+    public static AsyncTaskExecutor createExecutor(PokemonProperties.Executor settings) {
+        return switch (settings.getMode()) {
+            case FIXED -> fixedExecutor(settings.getThreads());
+            case VIRTUAL -> virtualExecutor(null);
+            case BOUNDED_VIRTUAL -> virtualExecutor(semaphoreGuard(settings.getMaxConcurrency()));
+        };
+    }
+
+    private static ThreadPoolTaskExecutor fixedExecutor(int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    private static SimpleAsyncTaskExecutor virtualExecutor(TaskDecorator decorator) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+        try {
+            executor.setVirtualThreads(true);
+        } catch (UnsupportedOperationException e) {
+            throw new IllegalStateException("Virtual threads need Java 21; build with -Pjava21 and run on a Java 21 JVM", e);
+        }
+        executor.setTaskDecorator(decorator);
+        executor.setTaskTerminationTimeout(5_000);
+        return executor;
+    }
+
+    // Unlike a concurrency limit on the executor, the permit is taken on the new
+    // virtual thread, so submitting never blocks the caller.
+    private static TaskDecorator semaphoreGuard(int maxConcurrency) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        return task -> () -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+}
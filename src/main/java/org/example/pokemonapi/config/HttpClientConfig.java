@@ -0,0 +1,143 @@
+package org.example.pokemonapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.example.pokemonapi.client.PokemonResponseConverter;
+import org.example.pokemonapi.client.ResilienceInterceptor;
+import org.example.pokemonapi.client.UpstreamMetricsInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Request factory behind the RestTemplate. The JDK client negotiates HTTP/2
+ * and multiplexes requests to PokeAPI over a shared connection. The Apache
+ * client is HTTP/1.1 only, but its connection pool can be capped in total
+ * and per route. Either way every request is timed by
+ * {@link UpstreamMetricsInterceptor}. The keep-alive and pool limits apply only
+ * to the Apache client; set with the JDK client they are logged as ignored.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpClientConfig.class);
+
+    @Bean
+    public RestTemplate restTemplate(ClientHttpRequestFactory clientHttpRequestFactory, PokemonProperties properties) {
+        RestTemplate restTemplate = new RestTemplate(clientHttpRequestFactory);
+        restTemplate.getMessageConverters().add(0, new PokemonResponseConverter());
+        if (properties.getResilience().isEnabled()) {
+            restTemplate.getInterceptors().add(new ResilienceInterceptor(properties.getResilience()));
+        }
+        return restTemplate;
+    }
+
+    @Bean
+    public ClientHttpRequestFactory clientHttpRequestFactory(
+            @Qualifier("pokeApiRequestFactory") ClientHttpRequestFactory requestFactory, MeterRegistry meterRegistry) {
+        return new InterceptingClientHttpRequestFactory(requestFactory, List.of(new UpstreamMetricsInterceptor(meterRegistry)));
+    }
+
+    // A bean of its own so Spring destroys it with the context, closing the Apache
+    // client's connection pool. Only injected by name.
+    @Bean(defaultCandidate = false)
+    public ClientHttpRequestFactory pokeApiRequestFactory(PokemonProperties properties) {
+        return createRequestFactory(properties.getHttp());
+    }
+
+    public static ClientHttpRequestFactory createRequestFactory(PokemonProperties.Http http) {
+        return switch (http.getClient()) {
+            case JDK -> jdkRequestFactory(http);
+            case APACHE -> apacheRequestFactory(http);
+        };
+    }
+
+    private static ClientHttpRequestFactory jdkRequestFactory(PokemonProperties.Http http) {
+        List<String> ignored = ignoredPoolSettings(http);
+        if (!ignored.isEmpty()) {
+            log.warn("{} only apply to pokemon.http.client=apache and are ignored by the JDK client", ignored);
+        }
+        HttpClient client = HttpClient.newBuilder()
+                .version(http.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(http.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(client);
+        factory.setReadTimeout(http.getReadTimeout());
+        return new InterceptingClientHttpRequestFactory(factory, List.of(readTimeoutAsIOException()));
+    }
+
+    /**
+     * The Apache-only pool settings that {@code http} sets away from their defaults,
+     * or an empty list when the Apache client is used.
+     */
+    public static List<String> ignoredPoolSettings(PokemonProperties.Http http) {
+        if (http.getClient() != PokemonProperties.Http.Client.JDK) {
+            return List.of();
+        }
+        PokemonProperties.Http defaults = new PokemonProperties.Http();
+        List<String> ignored = new ArrayList<>();
+        if (!http.getKeepAlive().equals(defaults.getKeepAlive())) {
+            ignored.add("pokemon.http.keep-alive");
+        }
+        if (http.getMaxConnections() != defaults.getMaxConnections()) {
+            ignored.add("pokemon.http.max-connections");
+        }
+        if (http.getMaxConnectionsPerRoute() != defaults.getMaxConnectionsPerRoute()) {
+            ignored.add("pokemon.http.max-connections-per-route");
+        }
+        return ignored;
+    }
+
+    // JdkClientHttpRequest can surface an expired read timeout as a bare CancellationException;
+    // report it as an I/O error so RestTemplate raises ResourceAccessException like the Apache client.
+    private static ClientHttpRequestInterceptor readTimeoutAsIOException() {
+        return (request, body, execution) -> {
+            try {
+                return execution.execute(request, body);
+            } catch (CancellationException e) {
+                SocketTimeoutException timeout = new SocketTimeoutException("Read timed out");
+                timeout.initCause(e);
+                throw timeout;
+            }
+        };
+    }
+
+    private static ClientHttpRequestFactory apacheRequestFactory(PokemonProperties.Http http) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(http.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(http.getKeepAlive()))
+                        .build())
+                .build();
+        CloseableHttpClient client = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(http.getKeepAlive()))
+                .evictIdleConnections(TimeValue.of(http.getKeepAlive()))
+                .build();
+        return new HttpComponentsClientHttpRequestFactory(client);
+    }
+}
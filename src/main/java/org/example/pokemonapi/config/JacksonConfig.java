@@ -0,0 +1,28 @@
+package org.example.pokemonapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.pokemonapi.controller.PokemonFields;
+import org.example.pokemonapi.model.Pokemon;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Serializes Pokemon through the {@code ?fields=} property filter, which
+ * writes every property unless a request selects some.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer pokemonFieldsFilter() {
+        return builder -> builder
+                .mixIn(Pokemon.class, PokemonFields.Filtered.class)
+                .filters(PokemonFields.ALL);
+    }
+
+    @Bean
+    public PokemonFields pokemonFields(ObjectMapper objectMapper) {
+        return new PokemonFields(objectMapper);
+    }
+}
@@ -0,0 +1,432 @@
+package org.example.pokemonapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "pokemon")
+public class PokemonProperties {
+
+    private final Api api = new Api();
+    private final Cache cache = new Cache();
+    private final Crawl crawl = new Crawl();
+    private final Http http = new Http();
+    private final Executor executor = new Executor();
+    private final Snapshot snapshot = new Snapshot();
+    private final Store store = new Store();
+    private final Refresh refresh = new Refresh();
+    private final Responses responses = new Responses();
+    private final Resilience resilience = new Resilience();
+
+    public Api getApi() {
+        return api;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Crawl getCrawl() {
+        return crawl;
+    }
+
+    public Http getHttp() {
+        return http;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public Store getStore() {
+        return store;
+    }
+
+    public Refresh getRefresh() {
+        return refresh;
+    }
+
+    public Responses getResponses() {
+        return responses;
+    }
+
+    public Resilience getResilience() {
+        return resilience;
+    }
+
+    public static class Api {
+        private String baseUrl = "https://pokeapi.co/api/v2/pokemon/";
+
+        /** Pokémon resource of the upstream API, always ending with a slash. */
+        public String getBaseUrl() {
+            return baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        }
+
+        public void setBaseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+    }
+
+    public static class Cache {
+        private Duration ttl = Duration.ofHours(6);
+        private long maxSize = 2_000;
+        private Duration negativeTtl = Duration.ofMinutes(5);
+        private long negativeMaxSize = 10_000;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getNegativeTtl() {
+            return negativeTtl;
+        }
+
+        public void setNegativeTtl(Duration negativeTtl) {
+            this.negativeTtl = negativeTtl;
+        }
+
+        public long getNegativeMaxSize() {
+            return negativeMaxSize;
+        }
+
+        public void setNegativeMaxSize(long negativeMaxSize) {
+            this.negativeMaxSize = negativeMaxSize;
+        }
+    }
+
+    public static class Crawl {
+        private int pageSize = 200;
+        private int concurrency = 16;
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+    }
+
+    public static class Http {
+        public enum Client { JDK, APACHE }
+
+        private Client client = Client.JDK;
+        private boolean http2 = true;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        // Pool settings of the Apache client; the JDK client manages its own connections.
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private int maxConnections = 64;
+        private int maxConnectionsPerRoute = 32;
+
+        public Client getClient() {
+            return client;
+        }
+
+        public void setClient(Client client) {
+            this.client = client;
+        }
+
+        public boolean isHttp2() {
+            return http2;
+        }
+
+        public void setHttp2(boolean http2) {
+            this.http2 = http2;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getMaxConnectionsPerRoute() {
+            return maxConnectionsPerRoute;
+        }
+
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+    }
+
+    public static class Executor {
+        public enum Mode { FIXED, VIRTUAL, BOUNDED_VIRTUAL }
+
+        private Mode mode = Mode.FIXED;
+        private int threads = 16;
+        private int maxConcurrency = 256;
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        public void setMode(Mode mode) {
+            this.mode = mode;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+    }
+
+    public static class Snapshot {
+        private boolean enabled = true;
+        private Path path = Path.of("data", "pokemon.snapshot");
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public void setPath(Path path) {
+            this.path = path;
+        }
+    }
+
+    public static class Store {
+        public enum Type { HEAP, OFF_HEAP, MAPPED }
+
+        private Type type = Type.HEAP;
+        private Path directory = Path.of("data");
+
+        public Type getType() {
+            return type;
+        }
+
+        public void setType(Type type) {
+            this.type = type;
+        }
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+    }
+
+    public static class Refresh {
+        private boolean enabled = true;
+        private Duration interval = Duration.ofHours(6);
+        private String cron = "";
+        private Duration partialRetry = Duration.ofMinutes(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public String getCron() {
+            return cron;
+        }
+
+        public void setCron(String cron) {
+            this.cron = cron;
+        }
+
+        public Duration getPartialRetry() {
+            return partialRetry;
+        }
+
+        public void setPartialRetry(Duration partialRetry) {
+            this.partialRetry = partialRetry;
+        }
+    }
+
+    public static class Responses {
+        private Duration maxAge = Duration.ofMinutes(5);
+        private int cachedBodies = 256;
+
+        public Duration getMaxAge() {
+            return maxAge;
+        }
+
+        public void setMaxAge(Duration maxAge) {
+            this.maxAge = maxAge;
+        }
+
+        public int getCachedBodies() {
+            return cachedBodies;
+        }
+
+        public void setCachedBodies(int cachedBodies) {
+            this.cachedBodies = cachedBodies;
+        }
+    }
+
+    public static class Resilience {
+        private boolean enabled = true;
+        private int maxAttempts = 3;
+        private Duration backoff = Duration.ofMillis(200);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int maxConcurrentCalls = 32;
+        private Duration bulkheadWait = Duration.ofSeconds(2);
+        private double requestsPerSecond = 50;
+        private int burst = 50;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getBackoff() {
+            return backoff;
+        }
+
+        public void setBackoff(Duration backoff) {
+            this.backoff = backoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public Duration getBulkheadWait() {
+            return bulkheadWait;
+        }
+
+        public void setBulkheadWait(Duration bulkheadWait) {
+            this.bulkheadWait = bulkheadWait;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.pokemonapi.controller;
+
+import org.example.pokemonapi.cache.PokemonCache;
+import org.example.pokemonapi.cache.PokemonCacheStats;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheStatsController {
+
+    private final PokemonCache pokemonCache;
+
+    public CacheStatsController(PokemonCache pokemonCache) {
+        this.pokemonCache = pokemonCache;
+    }
+
+    @GetMapping("/stats")
+    public PokemonCacheStats getStats() {
+        return pokemonCache.stats();
+    }
+}
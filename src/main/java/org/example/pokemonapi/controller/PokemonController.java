@@ -1,22 +1,82 @@
 package org.example.pokemonapi.controller;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.pokemonapi.index.SimilarityIndex;
+import org.example.pokemonapi.index.TypeAggregates;
 import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.model.PokemonBatch;
+import org.example.pokemonapi.model.PokemonPage;
+import org.example.pokemonapi.model.PokemonQuery;
+import org.example.pokemonapi.model.TypeSummary;
 import org.example.pokemonapi.service.PokemonService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.IntFunction;
 
 @RestController
 @RequestMapping("/api/pokemon")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PokemonController {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int MAX_NEIGHBOURS = 100;
+    private static final int MAX_TYPE_RANKING = 100;
+    private static final int MAX_RANKING = 100;
+    private static final byte[] EVENT_PREFIX = "data:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_SUFFIX = "\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LINE_SUFFIX = "\n".getBytes(StandardCharsets.UTF_8);
+
     private final PokemonService pokemonService;
+    private final PokemonFields pokemonFields;
 
-    public PokemonController(PokemonService pokemonService) {
+    public PokemonController(PokemonService pokemonService, PokemonFields pokemonFields) {
         this.pokemonService = pokemonService;
+        this.pokemonFields = pokemonFields;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPokemons(@RequestParam(defaultValue = "0") int offset,
+                                                                @RequestParam(required = false) Integer limit,
+                                                                @RequestParam(required = false) String fields) {
+        return stream(MediaType.APPLICATION_NDJSON, offset, limit, fields, new byte[0], LINE_SUFFIX);
+    }
+
+    @GetMapping(produces = "application/x-protobuf")
+    public ResponseEntity<StreamingResponseBody> streamPokemonMessages(@RequestParam(defaultValue = "0") int offset,
+                                                                       @RequestParam(required = false) Integer limit,
+                                                                       @RequestParam(required = false) String fields) {
+        PokemonFields.Projection projection = fields == null ? pokemonFields.all() : pokemonFields.parse(fields);
+        if (projection == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        Set<String> kept = projection.fields();
+        return stream(PokemonProtobufConverter.PROTOBUF, offset, limit,
+                (out, pokemon) -> PokemonProtobufConverter.writeDelimited(out, pokemon, kept));
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPokemonEvents(@RequestParam(defaultValue = "0") int offset,
+                                                                     @RequestParam(required = false) Integer limit,
+                                                                     @RequestParam(required = false) String fields) {
+        return stream(MediaType.TEXT_EVENT_STREAM, offset, limit, fields, EVENT_PREFIX, EVENT_SUFFIX);
     }
 
     @GetMapping("/{nameOrId}")
@@ -24,18 +84,138 @@ public class PokemonController {
         return pokemonService.getPokemon(nameOrId);
     }
 
+    @GetMapping("/{nameOrId}/similar")
+    public ResponseEntity<List<Pokemon>> getSimilarPokemons(@PathVariable String nameOrId,
+                                                            @RequestParam(defaultValue = "10") int k,
+                                                            @RequestParam(defaultValue = "z-score") String normalization) {
+        SimilarityIndex.Normalization scaling = SimilarityIndex.Normalization.of(normalization);
+        if (scaling == null || k < 1 || k > MAX_NEIGHBOURS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(pokemonService.getSimilarPokemons(nameOrId, k, scaling));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<PokemonBatch> getPokemons(@RequestBody List<String> namesOrIds) {
+        return batch(namesOrIds);
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<PokemonBatch> getPokemonsByIds(@RequestParam List<String> ids) {
+        return batch(ids);
+    }
+
+    @GetMapping("/query")
+    public ResponseEntity<PokemonPage> queryPokemons(PokemonQuery query) {
+        if (!query.isValid()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(pokemonService.queryPokemons(query));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<Pokemon>> searchPokemons(@RequestParam String q,
+                                                        @RequestParam(defaultValue = "10") int limit) {
+        if (q.isBlank() || limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(pokemonService.searchPokemons(q, limit));
+    }
+
+    @GetMapping("/types")
+    public List<TypeSummary> getTypeSummaries() {
+        return pokemonService.getTypeSummaries();
+    }
+
+    @GetMapping("/types/{type}")
+    public ResponseEntity<TypeSummary> getTypeSummary(@PathVariable String type) {
+        TypeSummary summary = pokemonService.getTypeSummary(type.toLowerCase(Locale.ROOT));
+        return summary == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(summary);
+    }
+
+    @GetMapping("/types/{type}/top")
+    public ResponseEntity<List<Pokemon>> getTopPokemonsByType(@PathVariable String type,
+                                                              @RequestParam(defaultValue = "weight") String by,
+                                                              @RequestParam(defaultValue = "5") int limit) {
+        if (!TypeAggregates.ATTRIBUTES.contains(by) || limit < 1 || limit > MAX_TYPE_RANKING) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Pokemon> top = pokemonService.getTopPokemonsByType(type.toLowerCase(Locale.ROOT), by, limit);
+        return top == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(top);
+    }
+
     @GetMapping("/heaviest")
-    public List<Pokemon> getTop5HeaviestPokemons() {
-        return pokemonService.getHeaviestPokemons(5);
+    public ResponseEntity<List<Pokemon>> getHeaviestPokemons(@RequestParam(defaultValue = "5") int limit) {
+        return ranking(limit, pokemonService::getHeaviestPokemons);
     }
 
     @GetMapping("/highest")
-    public List<Pokemon> getTop5HighestPokemons() {
-        return pokemonService.getHighestPokemons(5);
+    public ResponseEntity<List<Pokemon>> getHighestPokemons(@RequestParam(defaultValue = "5") int limit) {
+        return ranking(limit, pokemonService::getHighestPokemons);
     }
 
     @GetMapping("/most-experienced")
-    public List<Pokemon> getTop5MostExperiencedPokemons() {
-        return pokemonService.getPokemonsByBaseExperience(5);
+    public ResponseEntity<List<Pokemon>> getMostExperiencedPokemons(@RequestParam(defaultValue = "5") int limit) {
+        return ranking(limit, pokemonService::getPokemonsByBaseExperience);
+    }
+
+    private static ResponseEntity<List<Pokemon>> ranking(int limit, IntFunction<List<Pokemon>> top) {
+        if (limit < 1 || limit > MAX_RANKING) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(top.apply(limit));
+    }
+
+    private ResponseEntity<PokemonBatch> batch(List<String> namesOrIds) {
+        if (namesOrIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(pokemonService.getPokemons(namesOrIds));
+    }
+
+    // Each Pokémon is written and flushed on its own, so nothing but the current item is buffered.
+    // Bodies streamed here bypass the message converters, so ?fields= is applied with the projection's writer.
+    private ResponseEntity<StreamingResponseBody> stream(MediaType mediaType, int offset, Integer limit,
+                                                         String fields, byte[] prefix, byte[] suffix) {
+        PokemonFields.Projection projection = fields == null ? pokemonFields.all() : pokemonFields.parse(fields);
+        if (projection == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        ObjectWriter writer = projection.writer();
+        return stream(mediaType, offset, limit, (out, pokemon) -> {
+            out.write(prefix);
+            out.write(writer.writeValueAsBytes(pokemon));
+            out.write(suffix);
+        });
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(MediaType mediaType, int offset, Integer limit,
+                                                         PokemonWriter writer) {
+        if (offset < 0 || (limit != null && limit < 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> {
+            try {
+                pokemonService.streamPokemons(offset, limit == null ? Integer.MAX_VALUE : limit,
+                        pokemon -> write(out, writer, pokemon));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(mediaType).body(body);
+    }
+
+    private static void write(OutputStream out, PokemonWriter writer, Pokemon pokemon) {
+        try {
+            writer.write(out, pokemon);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface PokemonWriter {
+        void write(OutputStream out, Pokemon pokemon) throws IOException;
     }
-}
\ No newline at end of file
+}
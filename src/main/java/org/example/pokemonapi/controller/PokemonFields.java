@@ -0,0 +1,96 @@
+package org.example.pokemonapi.controller;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.example.pokemonapi.model.Pokemon;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sparse fieldsets for Pokémon responses: {@code ?fields=name,weight} keeps
+ * only the listed Pokemon properties. Pokemon is serialized through the
+ * {@value #FILTER} property filter, which writes every property unless a
+ * request names some. Each distinct set of fields gets its FilterProvider and
+ * ObjectWriter once, keyed by a bitmask of the fields, so later requests for
+ * the same set only look it up. Jackson builds the Pokemon serializer once
+ * either way; the filter only decides which of its properties are written.
+ */
+public class PokemonFields {
+
+    public static final String FILTER = "pokemonFields";
+
+    /** Default for the application's ObjectMapper: Pokemon is written in full. */
+    public static final FilterProvider ALL = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+
+    /** Mix-in putting Pokemon behind {@value #FILTER}, so the model itself needs no Jackson annotations. */
+    @JsonFilter(FILTER)
+    public interface Filtered {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final List<String> names;
+    private final Projection all;
+    private final Map<Integer, Projection> projections = new ConcurrentHashMap<>();
+
+    public PokemonFields(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.names = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(Pokemon.class))
+                .findProperties().stream()
+                .map(BeanPropertyDefinition::getName)
+                .toList();
+        this.all = new Projection(ALL, objectMapper.writer(ALL), Set.copyOf(names));
+    }
+
+    /** Every property Pokemon has in JSON. */
+    public List<String> names() {
+        return names;
+    }
+
+    /** Writes Pokemon in full. */
+    public Projection all() {
+        return all;
+    }
+
+    /**
+     * The projection onto a comma-separated list of property names, in any order;
+     * null if the list is empty or names a property Pokemon does not have.
+     */
+    public Projection parse(String fields) {
+        int mask = 0;
+        for (String field : fields.split(",", -1)) {
+            int index = names.indexOf(field.trim());
+            if (index < 0) {
+                return null;
+            }
+            mask |= 1 << index;
+        }
+        return projections.computeIfAbsent(mask, this::compile);
+    }
+
+    private Projection compile(int mask) {
+        Set<String> kept = new HashSet<>();
+        for (int index = 0; index < names.size(); index++) {
+            if ((mask & 1 << index) != 0) {
+                kept.add(names.get(index));
+            }
+        }
+        FilterProvider filters = new SimpleFilterProvider()
+                .addFilter(FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(kept));
+        return new Projection(filters, objectMapper.writer(filters), Set.copyOf(kept));
+    }
+
+    /** The Jackson filters and writer for a set of fields, and the field names for other encoders. */
+    public record Projection(FilterProvider filters, ObjectWriter writer, Set<String> fields) {
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.pokemonapi.controller;
+
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.model.PokemonBatch;
+import org.example.pokemonapi.model.PokemonPage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Collection;
+
+/**
+ * Applies {@code ?fields=} to every body of PokemonController that contains
+ * Pokémon, by handing the Jackson converters the projection's filters, or the
+ * protobuf converter the projected field names. Streamed responses are
+ * projected by the controller itself. Unknown fields are a 400; bodies without
+ * Pokémon, such as type summaries, ignore the parameter.
+ */
+@ControllerAdvice(assignableTypes = PokemonController.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PokemonFieldsAdvice implements ResponseBodyAdvice<Object> {
+
+    private final PokemonFields pokemonFields;
+
+    public PokemonFieldsAdvice(PokemonFields pokemonFields) {
+        this.pokemonFields = pokemonFields;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return containsPokemon(returnType)
+                && (AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+                || PokemonProtobufConverter.class.isAssignableFrom(converterType));
+    }
+
+    private static boolean containsPokemon(MethodParameter returnType) {
+        ResolvableType type = ResolvableType.forMethodParameter(returnType);
+        if (HttpEntity.class.isAssignableFrom(type.toClass())) {
+            type = type.as(HttpEntity.class).getGeneric(0);
+        }
+        Class<?> body = type.toClass();
+        return body == Pokemon.class || body == PokemonPage.class || body == PokemonBatch.class
+                || Collection.class.isAssignableFrom(body) && type.as(Collection.class).getGeneric(0).toClass() == Pokemon.class;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        String fields = ((ServletServerHttpRequest) request).getServletRequest().getParameter("fields");
+        if (body == null || fields == null) {
+            return body;
+        }
+        PokemonFields.Projection projection = pokemonFields.parse(fields);
+        if (projection == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "fields must be a comma-separated list of " + String.join(", ", pokemonFields.names()));
+        }
+        if (PokemonProtobufConverter.class.isAssignableFrom(converterType)) {
+            return new PokemonProtobufConverter.Projected(body, projection.fields());
+        }
+        MappingJacksonValue container = body instanceof MappingJacksonValue value ? value : new MappingJacksonValue(body);
+        container.setFilters(projection.filters());
+        return container;
+    }
+}
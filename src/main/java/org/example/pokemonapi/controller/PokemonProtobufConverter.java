@@ -0,0 +1,228 @@
+package org.example.pokemonapi.controller;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.example.pokemonapi.model.Pokemon;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes a Pokemon as the {@code Pokemon} message and a {@code List<Pokemon>}
+ * as {@code PokemonList}, following the schema published at
+ * {@code /schema/pokemon.proto}. The messages are encoded by hand with
+ * CodedOutputStream straight from the model, so the build needs no protoc
+ * step and no generated message objects are created per response. A body
+ * wrapped in {@link Projected} writes only the selected Pokemon fields, which
+ * read as their defaults on the client. Any other body is left to the other
+ * converters, which makes it a 406 when only protobuf is acceptable.
+ */
+public class PokemonProtobufConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final int NAME = 1;
+    private static final int WEIGHT = 2;
+    private static final int HEIGHT = 3;
+    private static final int BASE_EXPERIENCE = 4;
+    private static final int TYPES = 5;
+    private static final int STATS = 6;
+    private static final int ABILITIES = 7;
+    private static final int STAT_NAME = 1;
+    private static final int STAT_BASE_STAT = 2;
+    private static final int LIST_POKEMONS = 1;
+    private static final int ALL_FIELDS = -1;
+    private static final Map<String, Integer> FIELD_NUMBERS = Map.of("name", NAME, "weight", WEIGHT, "height", HEIGHT,
+            "baseExperience", BASE_EXPERIENCE, "types", TYPES, "stats", STATS, "abilities", ABILITIES);
+
+    public PokemonProtobufConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Pokemon.class == clazz;
+    }
+
+    // Spring lists the producible media types by the body's class, before its generic type is checked.
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return supports(clazz) || List.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : List.of();
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (supports(clazz) || isPokemonList(type)) && canWrite(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Pokémon are only written as protobuf", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Pokémon are only written as protobuf", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        int fields = ALL_FIELDS;
+        if (body instanceof Projected projected) {
+            fields = mask(projected.fields());
+            body = projected.value();
+        }
+        CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody());
+        if (body instanceof Pokemon pokemon) {
+            write(out, pokemon, fields);
+        } else {
+            for (Object element : (List<?>) body) {
+                Pokemon pokemon = (Pokemon) element;
+                out.writeTag(LIST_POKEMONS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeUInt32NoTag(size(pokemon, fields));
+                write(out, pokemon, fields);
+            }
+        }
+        out.flush();
+    }
+
+    /** Writes {@code pokemon} preceded by its length, as one message of a protobuf stream. */
+    public static void writeDelimited(OutputStream stream, Pokemon pokemon) throws IOException {
+        writeDelimited(stream, pokemon, ALL_FIELDS);
+    }
+
+    /** Writes the {@code fields} of {@code pokemon} preceded by their length, as one message of a protobuf stream. */
+    public static void writeDelimited(OutputStream stream, Pokemon pokemon, Set<String> fields) throws IOException {
+        writeDelimited(stream, pokemon, mask(fields));
+    }
+
+    private static void writeDelimited(OutputStream stream, Pokemon pokemon, int fields) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(stream);
+        out.writeUInt32NoTag(size(pokemon, fields));
+        write(out, pokemon, fields);
+        out.flush();
+    }
+
+    // One bit per field number of the Pokemon message; properties the schema lacks are skipped.
+    private static int mask(Collection<String> fields) {
+        int mask = 0;
+        for (String field : fields) {
+            Integer number = FIELD_NUMBERS.get(field);
+            if (number != null) {
+                mask |= 1 << number;
+            }
+        }
+        return mask;
+    }
+
+    private static boolean has(int fields, int field) {
+        return (fields & 1 << field) != 0;
+    }
+
+    private static boolean isPokemonList(Type type) {
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> raw && List.class.isAssignableFrom(raw)
+                && parameterized.getActualTypeArguments()[0] == Pokemon.class;
+    }
+
+    // proto3 leaves out fields holding their default value, so zeros and empty strings are skipped.
+    private static int size(Pokemon pokemon, int fields) {
+        int size = 0;
+        if (has(fields, NAME) && pokemon.getName() != null && !pokemon.getName().isEmpty()) {
+            size += CodedOutputStream.computeStringSize(NAME, pokemon.getName());
+        }
+        size += int32Size(fields, WEIGHT, pokemon.getWeight());
+        size += int32Size(fields, HEIGHT, pokemon.getHeight());
+        size += int32Size(fields, BASE_EXPERIENCE, pokemon.getBaseExperience());
+        if (has(fields, TYPES)) {
+            for (String type : pokemon.getTypes()) {
+                size += CodedOutputStream.computeStringSize(TYPES, type);
+            }
+        }
+        if (has(fields, STATS)) {
+            for (Map.Entry<String, Integer> stat : pokemon.getStats().entrySet()) {
+                int statSize = statSize(stat);
+                size += CodedOutputStream.computeTagSize(STATS) + CodedOutputStream.computeUInt32SizeNoTag(statSize) + statSize;
+            }
+        }
+        if (has(fields, ABILITIES)) {
+            for (String ability : pokemon.getAbilities()) {
+                size += CodedOutputStream.computeStringSize(ABILITIES, ability);
+            }
+        }
+        return size;
+    }
+
+    private static int statSize(Map.Entry<String, Integer> stat) {
+        int baseStat = stat.getValue();
+        return CodedOutputStream.computeStringSize(STAT_NAME, stat.getKey())
+                + (baseStat == 0 ? 0 : CodedOutputStream.computeInt32Size(STAT_BASE_STAT, baseStat));
+    }
+
+    private static int int32Size(int fields, int field, int value) {
+        return value == 0 || !has(fields, field) ? 0 : CodedOutputStream.computeInt32Size(field, value);
+    }
+
+    private static void write(CodedOutputStream out, Pokemon pokemon, int fields) throws IOException {
+        if (has(fields, NAME) && pokemon.getName() != null && !pokemon.getName().isEmpty()) {
+            out.writeString(NAME, pokemon.getName());
+        }
+        writeInt32(out, fields, WEIGHT, pokemon.getWeight());
+        writeInt32(out, fields, HEIGHT, pokemon.getHeight());
+        writeInt32(out, fields, BASE_EXPERIENCE, pokemon.getBaseExperience());
+        if (has(fields, TYPES)) {
+            for (String type : pokemon.getTypes()) {
+                out.writeString(TYPES, type);
+            }
+        }
+        if (has(fields, STATS)) {
+            for (Map.Entry<String, Integer> stat : pokemon.getStats().entrySet()) {
+                out.writeTag(STATS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeUInt32NoTag(statSize(stat));
+                out.writeString(STAT_NAME, stat.getKey());
+                if (stat.getValue() != 0) {
+                    out.writeInt32(STAT_BASE_STAT, stat.getValue());
+                }
+            }
+        }
+        if (has(fields, ABILITIES)) {
+            for (String ability : pokemon.getAbilities()) {
+                out.writeString(ABILITIES, ability);
+            }
+        }
+    }
+
+    private static void writeInt32(CodedOutputStream out, int fields, int field, int value) throws IOException {
+        if (value != 0 && has(fields, field)) {
+            out.writeInt32(field, value);
+        }
+    }
+
+    /**
+     * A Pokemon or list of them to be written with only {@code fields}, the
+     * protobuf counterpart of MappingJacksonValue.
+     */
+    public record Projected(Object value, Set<String> fields) {
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.pokemonapi.controller;
+
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.service.ReactivePokemonService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/reactive/pokemon")
+public class ReactivePokemonController {
+
+    private final ReactivePokemonService pokemonService;
+
+    public ReactivePokemonController(ReactivePokemonService pokemonService) {
+        this.pokemonService = pokemonService;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<Pokemon> streamPokemons(@RequestParam(defaultValue = "0") int offset,
+                                        @RequestParam(required = false) Integer limit) {
+        if (offset < 0 || (limit != null && limit < 0)) {
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST));
+        }
+        return pokemonService.streamPokemons(offset, limit == null ? Integer.MAX_VALUE : limit);
+    }
+
+    @GetMapping("/{nameOrId}")
+    public Mono<Pokemon> getPokemon(@PathVariable String nameOrId) {
+        return pokemonService.getPokemon(nameOrId);
+    }
+
+    @GetMapping("/heaviest")
+    public Flux<Pokemon> getHeaviestPokemons(@RequestParam(defaultValue = "5") int limit) {
+        return pokemonService.getHeaviestPokemons(limit);
+    }
+
+    @GetMapping("/highest")
+    public Flux<Pokemon> getHighestPokemons(@RequestParam(defaultValue = "5") int limit) {
+        return pokemonService.getHighestPokemons(limit);
+    }
+
+    @GetMapping("/most-experienced")
+    public Flux<Pokemon> getMostExperiencedPokemons(@RequestParam(defaultValue = "5") int limit) {
+        return pokemonService.getPokemonsByBaseExperience(limit);
+    }
+}
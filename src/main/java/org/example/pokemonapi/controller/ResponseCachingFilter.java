@@ -0,0 +1,253 @@
+package org.example.pokemonapi.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.service.PokemonService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * HTTP caching for the top-N lists, attribute queries, name searches, type
+ * summaries and single Pokémon. A top-N list, query, search result or type
+ * summary is tagged with the dataset version, so {@code If-None-Match} is
+ * answered with 304 before the controller runs, and the serialized bytes of
+ * the most used requests, searches excepted, are kept until the dataset
+ * changes. A single Pokémon is tagged with the version of its PokemonCache
+ * entry, so a matching request is answered with 304 without fetching or
+ * serializing it; one that is not cached yet is tagged once the controller
+ * has loaded it. Requests
+ * accepting CBOR, Smile or protobuf get their own cached bodies and ETags,
+ * and every cacheable response varies on Accept. The ETags are weak, because
+ * Tomcat does not compress a response carrying a strong one. Only successful
+ * responses carry an ETag, and a request with an unknown {@code ?fields=} is
+ * passed through untagged, so it always reaches the controller for its 400.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ResponseCachingFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "/api/pokemon/";
+    private static final String TYPES = PREFIX + "types/";
+    private static final Set<String> DATASET_VIEWS = Set.of("heaviest", "highest", "most-experienced", "query", "search", "types");
+    private static final Set<String> NOT_A_POKEMON = Set.of("batch");
+    // Every keystroke of search-as-you-type is a new key, which would crowd the lists out of the body cache.
+    private static final Set<String> UNCACHED_BODIES = Set.of("search");
+    private static final List<MediaType> BINARY_FORMATS = List.of(
+            MediaType.APPLICATION_CBOR, new MediaType("application", "x-jackson-smile"), PokemonProtobufConverter.PROTOBUF);
+
+    private final PokemonService pokemonService;
+    private final PokemonFields pokemonFields;
+    private final String cacheControl;
+    private final int cachedBodies;
+    private volatile Bodies bodies;
+
+    public ResponseCachingFilter(PokemonService pokemonService, PokemonFields pokemonFields,
+                                 PokemonProperties properties) {
+        this.pokemonService = pokemonService;
+        this.pokemonFields = pokemonFields;
+        PokemonProperties.Responses settings = properties.getResponses();
+        this.cacheControl = CacheControl.maxAge(settings.getMaxAge().toSeconds(), TimeUnit.SECONDS)
+                .cachePublic()
+                .getHeaderValue();
+        this.cachedBodies = settings.getCachedBodies();
+        this.bodies = new Bodies(null, cachedBodies);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String resource = resource(request);
+        return !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))
+                || resource == null || NOT_A_POKEMON.contains(resource);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String resource = resource(request);
+        if (DATASET_VIEWS.contains(resource)) {
+            datasetView(request, response, chain, !UNCACHED_BODIES.contains(resource));
+        } else {
+            pokemon(request, response, chain, UriUtils.decode(resource, StandardCharsets.UTF_8));
+        }
+    }
+
+    private void pokemon(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                         String nameOrId) throws ServletException, IOException {
+        String fields = request.getParameter("fields");
+        if (fields != null && pokemonFields.parse(fields) == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String before = pokemonService.pokemonVersion(nameOrId);
+        if (before != null && matches(request, etag(before, request))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            tag(response, etag(before, request));
+            return;
+        }
+        // Buffered only so the ETag can still be set once the controller has cached the entry.
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        String after = pokemonService.pokemonVersion(nameOrId);
+        if (after != null && (before == null || before.equals(after))) {
+            tag(wrapper, etag(after, request));
+        } else {
+            allowCaching(wrapper); // the entry changed while the body was written, so neither version is certain
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private static String etag(String version, HttpServletRequest request) {
+        return "W/\"" + version + representation(request) + '"';
+    }
+
+    private void datasetView(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                             boolean cacheBody) throws ServletException, IOException {
+        String fields = request.getParameter("fields");
+        if (fields != null && pokemonFields.parse(fields) == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String version;
+        try {
+            version = etag(Long.toHexString(pokemonService.datasetVersion()), request);
+        } catch (RuntimeException e) {
+            chain.doFilter(request, response); // the controller reports the failure
+            return;
+        }
+        if (matches(request, version)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            tag(response, version);
+            return;
+        }
+        if (!cacheBody) {
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            chain.doFilter(request, wrapper);
+            tag(wrapper, version);
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        Bodies current = bodies;
+        if (!version.equals(current.version)) {
+            current = new Bodies(version, cachedBodies);
+            bodies = current;
+        }
+        String key = request.getRequestURI() + new TreeMap<>(request.getParameterMap()).entrySet().stream()
+                .map(parameter -> parameter.getKey() + '=' + String.join(",", parameter.getValue()))
+                .collect(Collectors.joining("&", "?", "")) + representation(request);
+        Body body = current.byRequest.getIfPresent(key);
+        if (body != null) {
+            tag(response, version);
+            response.setContentType(body.contentType);
+            response.setContentLength(body.bytes.length);
+            response.getOutputStream().write(body.bytes);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK) {
+            current.byRequest.put(key, new Body(wrapper.getContentType(), wrapper.getContentAsByteArray()));
+        }
+        tag(wrapper, version);
+        wrapper.copyBodyToResponse();
+    }
+
+    // Set after the controller has run, so a 400 or 404 never carries the dataset's ETag.
+    private void tag(HttpServletResponse response, String etag) {
+        int status = response.getStatus();
+        if (status == HttpServletResponse.SC_OK || status == HttpServletResponse.SC_NOT_MODIFIED) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        allowCaching(response);
+    }
+
+    // Weak comparison, as If-None-Match requires.
+    private static boolean matches(HttpServletRequest request, String etag) {
+        String opaque = etag.substring(2);
+        for (String header : Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH))) {
+            for (String candidate : header.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaque)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Errors are never marked cacheable.
+    private void allowCaching(HttpServletResponse response) {
+        int status = response.getStatus();
+        if (status == HttpServletResponse.SC_OK || status == HttpServletResponse.SC_NOT_MODIFIED) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+    }
+
+    // Empty for JSON. A request naming a binary format gets a suffix from its Accept header, so
+    // each representation has its own ETag and cached body, the same on every instance.
+    private static String representation(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return "";
+        }
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                if (BINARY_FORMATS.stream().anyMatch(type::equalsTypeAndSubtype)) {
+                    return "-" + Integer.toHexString(accept.hashCode());
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            // Spring answers it with 406
+        }
+        return "";
+    }
+
+    // Last path segment under /api/pokemon/, "types" for anything under /api/pokemon/types, or null for any other path.
+    private static String resource(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith(TYPES)) {
+            return "types";
+        }
+        if (!path.startsWith(PREFIX) || path.length() == PREFIX.length() || path.indexOf('/', PREFIX.length()) >= 0) {
+            return null;
+        }
+        return path.substring(PREFIX.length());
+    }
+
+    private record Body(String contentType, byte[] bytes) {
+    }
+
+    // Bounded by entry count, evicting the least used requests first.
+    private static final class Bodies {
+        private final String version;
+        private final Cache<String, Body> byRequest;
+
+        private Bodies(String version, int maximumSize) {
+            this.version = version;
+            this.byRequest = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        }
+    }
+}
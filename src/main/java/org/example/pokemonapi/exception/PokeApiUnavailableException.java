@@ -0,0 +1,7 @@
+package org.example.pokemonapi.exception;
+
+public class PokeApiUnavailableException extends RuntimeException {
+    public PokeApiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,193 @@
+package org.example.pokemonapi.index;
+
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.store.PokemonStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Name lookups over one dataset snapshot for search-as-you-type. The names are
+ * kept in sorted order, which makes the array a flattened trie: every name with
+ * a given prefix is one contiguous run. Completions are the run found by a
+ * binary search. Misspellings are matched by walking the names in order while
+ * keeping one row of the edit-distance table per character, so consecutive
+ * names reuse the rows of their shared prefix. Once no cell of a row is within
+ * the allowed edits, no name with that prefix can be, and the walk jumps past
+ * the whole run.
+ */
+public class NameIndex {
+
+    private final PokemonStore store;
+    private final String[] names;
+    private final int[] rows;
+    private final int longest;
+
+    private NameIndex(PokemonStore store) {
+        this.store = store;
+        Integer[] order = new Integer[store.size()];
+        for (int row = 0; row < order.length; row++) {
+            order[row] = row;
+        }
+        Arrays.sort(order, Comparator.comparing(store::name));
+        this.names = new String[order.length];
+        this.rows = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            names[i] = store.name(order[i]);
+            rows[i] = order[i];
+        }
+        this.longest = Arrays.stream(names).mapToInt(String::length).max().orElse(0);
+    }
+
+    public static NameIndex build(PokemonStore store) {
+        return new NameIndex(store);
+    }
+
+    public boolean isFor(PokemonStore snapshot) {
+        return store == snapshot;
+    }
+
+    /**
+     * Up to {@code limit} Pokémon whose name starts with {@code query}, in
+     * alphabetical order, followed by names within {@link #maxEdits} of it,
+     * closest first.
+     */
+    public List<Pokemon> search(String query, int limit) {
+        String prefix = normalize(query);
+        List<Pokemon> result = new ArrayList<>(Math.min(limit, 16));
+        if (prefix.isEmpty() || limit <= 0) {
+            return result;
+        }
+        for (int i = firstAtLeast(prefix); i < names.length && names[i].startsWith(prefix) && result.size() < limit; i++) {
+            result.add(store.get(rows[i]));
+        }
+        if (result.size() == limit) {
+            return result;
+        }
+
+        List<Match> matches = nearMisses(prefix, maxEdits(prefix));
+        matches.sort(Comparator.comparingInt(Match::distance)); // stable, so ties stay alphabetical
+        for (int i = 0; i < matches.size() && result.size() < limit; i++) {
+            result.add(store.get(rows[matches.get(i).index()]));
+        }
+        return result;
+    }
+
+    /** Names are lowercase and hyphenated in PokeAPI, so "Mr Mime" finds "mr-mime". */
+    public static String normalize(String query) {
+        return query.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", "-");
+    }
+
+    /** Edits tolerated for a query of this length: none below 3 characters, one up to 5, two beyond. */
+    static int maxEdits(String query) {
+        return query.length() < 3 ? 0 : query.length() <= 5 ? 1 : 2;
+    }
+
+    // Names within maxEdits of the query that do not start with it, in alphabetical order.
+    private List<Match> nearMisses(String query, int maxEdits) {
+        List<Match> matches = new ArrayList<>();
+        int[][] table = new int[longest + 1][query.length() + 1];
+        for (int j = 0; j <= query.length(); j++) {
+            table[0][j] = j;
+        }
+        String previous = "";
+        int computed = 0; // rows of the table that hold the prefixes of previous
+        int i = 0;
+        while (i < names.length) {
+            String name = names[i];
+            int depth = Math.min(computed, sharedPrefix(previous, name));
+            boolean pruned = false;
+            while (depth < name.length() && !pruned) {
+                depth++;
+                pruned = fillRow(table, depth, name.charAt(depth - 1), query, maxEdits) > maxEdits;
+            }
+            previous = name;
+            computed = depth;
+            if (pruned) {
+                i = endOfRun(i, depth);
+                continue;
+            }
+            if (Math.abs(depth - query.length()) <= maxEdits) {
+                int distance = table[depth][query.length()];
+                if (distance <= maxEdits && !name.startsWith(query)) {
+                    matches.add(new Match(i, distance));
+                }
+            }
+            i++;
+        }
+        return matches;
+    }
+
+    // Levenshtein row for one more character of the name, limited to the cells within maxEdits
+    // of the diagonal; the others can only hold larger distances and are stood in for by
+    // maxEdits + 1. Returns the row's smallest cell.
+    private static int fillRow(int[][] table, int row, char c, String query, int maxEdits) {
+        int[] above = table[row - 1];
+        int[] current = table[row];
+        int from = Math.max(1, row - maxEdits);
+        int to = Math.min(query.length(), row + maxEdits);
+        current[from - 1] = from == 1 ? row : maxEdits + 1;
+        int min = current[from - 1];
+        for (int j = from; j <= to; j++) {
+            int substitution = above[j - 1] + (query.charAt(j - 1) == c ? 0 : 1);
+            current[j] = Math.min(substitution, Math.min(above[j], current[j - 1]) + 1);
+            min = Math.min(min, current[j]);
+        }
+        if (to < query.length()) {
+            current[to + 1] = maxEdits + 1;
+        }
+        return min;
+    }
+
+    // Index of the first name after names[start] that does not share its first length characters.
+    private int endOfRun(int start, int length) {
+        String prefix = names[start];
+        int step = 1;
+        int low = start;
+        int high = start + 1;
+        while (high < names.length && names[high].regionMatches(0, prefix, 0, length)) {
+            low = high;
+            step <<= 1;
+            high = start + step;
+        }
+        high = Math.min(high, names.length);
+        while (low + 1 < high) {
+            int mid = (low + high) >>> 1;
+            if (names[mid].regionMatches(0, prefix, 0, length)) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return high;
+    }
+
+    private static int sharedPrefix(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private int firstAtLeast(String prefix) {
+        int low = 0;
+        int high = names.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (names[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record Match(int index, int distance) {
+    }
+}
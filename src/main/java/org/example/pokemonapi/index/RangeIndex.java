@@ -0,0 +1,243 @@
+package org.example.pokemonapi.index;
+
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.model.PokemonPage;
+import org.example.pokemonapi.model.PokemonQuery;
+import org.example.pokemonapi.store.PokemonStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Ascending orderings of one dataset snapshot by weight, height and base
+ * experience, kept as parallel arrays of values and rows, so a range predicate
+ * is two binary searches. A query reads the rows of its narrowest range and
+ * checks the other predicates against the store's columns for those rows
+ * only; the matches are collected in a BitSet, which also yields dex order.
+ * Sorted results walk the sort attribute's ordering, or sort the matches
+ * directly when there are few of them.
+ */
+public class RangeIndex {
+
+    // Below one match per this many rows, sorting the matches beats walking a full ordering.
+    private static final int SPARSE = 16;
+
+    private final PokemonStore store;
+    private final Column weight;
+    private final Column height;
+    private final Column baseExperience;
+
+    private RangeIndex(PokemonStore store) {
+        this.store = store;
+        this.weight = new Column(store.size(), store::weight);
+        this.height = new Column(store.size(), store::height);
+        this.baseExperience = new Column(store.size(), store::baseExperience);
+    }
+
+    public static RangeIndex build(PokemonStore store) {
+        return new RangeIndex(store);
+    }
+
+    public boolean isFor(PokemonStore snapshot) {
+        return store == snapshot;
+    }
+
+    public PokemonPage query(PokemonQuery query) {
+        List<Range> ranges = new ArrayList<>(3);
+        addRange(ranges, weight, query.getMinWeight(), query.getMaxWeight());
+        addRange(ranges, height, query.getMinHeight(), query.getMaxHeight());
+        addRange(ranges, baseExperience, query.getMinBaseExperience(), query.getMaxBaseExperience());
+
+        BitSet matches = matches(ranges);
+        int total = matches.cardinality();
+        int count = Math.max(0, Math.min(query.getLimit(), total - query.getOffset()));
+        int[] rows = new int[count];
+        if (count > 0) {
+            Column order = column(query.getSort());
+            if (order == null) {
+                inDexOrder(matches, query.getOffset(), rows);
+            } else if ((long) total * SPARSE < store.size()) {
+                sorted(order, matches, total, query.isDescending(), query.getOffset(), rows);
+            } else {
+                order.walk(matches, query.isDescending(), query.getOffset(), rows);
+            }
+        }
+
+        List<Pokemon> pokemons = new ArrayList<>(count);
+        for (int row : rows) {
+            pokemons.add(store.get(row));
+        }
+        return new PokemonPage(total, query.getOffset(), pokemons);
+    }
+
+    private Column column(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return switch (attribute) {
+            case "weight" -> weight;
+            case "height" -> height;
+            case "baseExperience" -> baseExperience;
+            default -> throw new IllegalArgumentException("Unknown attribute: " + attribute);
+        };
+    }
+
+    private static void addRange(List<Range> ranges, Column column, Integer min, Integer max) {
+        if (min != null || max != null) {
+            ranges.add(column.range(min == null ? Integer.MIN_VALUE : min, max == null ? Integer.MAX_VALUE : max));
+        }
+    }
+
+    private BitSet matches(List<Range> ranges) {
+        BitSet matches = new BitSet(store.size());
+        if (ranges.isEmpty()) {
+            matches.set(0, store.size());
+            return matches;
+        }
+        Range narrowest = ranges.get(0);
+        for (Range range : ranges) {
+            if (range.size() < narrowest.size()) {
+                narrowest = range;
+            }
+        }
+        rows:
+        for (int i = narrowest.from; i < narrowest.to; i++) {
+            int row = narrowest.column.rows[i];
+            for (Range range : ranges) {
+                if (range != narrowest && !range.contains(row)) {
+                    continue rows;
+                }
+            }
+            matches.set(row);
+        }
+        return matches;
+    }
+
+    private static void inDexOrder(BitSet matches, int offset, int[] rows) {
+        int row = matches.nextSetBit(0);
+        for (int skipped = 0; skipped < offset; skipped++) {
+            row = matches.nextSetBit(row + 1);
+        }
+        for (int i = 0; i < rows.length; i++, row = matches.nextSetBit(row + 1)) {
+            rows[i] = row;
+        }
+    }
+
+    // Packs (value, row) into one long, negating the value for descending order; ties keep dex order.
+    private static void sorted(Column order, BitSet matches, int total, boolean descending, int offset, int[] rows) {
+        long[] keys = new long[total];
+        int i = 0;
+        for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+            long value = order.byRow.applyAsInt(row);
+            keys[i++] = ((descending ? -value : value) << 32) | row;
+        }
+        Arrays.sort(keys);
+        for (int j = 0; j < rows.length; j++) {
+            rows[j] = (int) keys[offset + j];
+        }
+    }
+
+    private static final class Column {
+        private final IntUnaryOperator byRow;
+        private final int[] values;
+        private final int[] rows;
+
+        private Column(int size, IntUnaryOperator byRow) {
+            this.byRow = byRow;
+            long[] keys = new long[size];
+            for (int row = 0; row < size; row++) {
+                keys[row] = ((long) byRow.applyAsInt(row) << 32) | row;
+            }
+            Arrays.sort(keys);
+            this.values = new int[size];
+            this.rows = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = (int) (keys[i] >> 32);
+                rows[i] = (int) keys[i];
+            }
+        }
+
+        private Range range(int min, int max) {
+            return new Range(this, min, max, firstAbove(min - 1L), firstAbove(max));
+        }
+
+        // Index of the first value greater than {@code bound}.
+        private int firstAbove(long bound) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= bound) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // Descending order reads each run of equal values front to back, so ties keep dex order.
+        private void walk(BitSet matches, boolean descending, int offset, int[] out) {
+            Page page = new Page(matches, offset, out);
+            if (!descending) {
+                for (int i = 0; i < rows.length && !page.isFull(); i++) {
+                    page.offer(rows[i]);
+                }
+                return;
+            }
+            int end = rows.length;
+            while (end > 0 && !page.isFull()) {
+                int start = end - 1;
+                while (start > 0 && values[start - 1] == values[end - 1]) {
+                    start--;
+                }
+                for (int i = start; i < end && !page.isFull(); i++) {
+                    page.offer(rows[i]);
+                }
+                end = start;
+            }
+        }
+    }
+
+    private static final class Page {
+        private final BitSet matches;
+        private final int[] rows;
+        private int skip;
+        private int filled;
+
+        private Page(BitSet matches, int offset, int[] rows) {
+            this.matches = matches;
+            this.skip = offset;
+            this.rows = rows;
+        }
+
+        private void offer(int row) {
+            if (!matches.get(row)) {
+                return;
+            }
+            if (skip > 0) {
+                skip--;
+            } else {
+                rows[filled++] = row;
+            }
+        }
+
+        private boolean isFull() {
+            return filled == rows.length;
+        }
+    }
+
+    private record Range(Column column, int min, int max, int from, int to) {
+        int size() {
+            return to - from;
+        }
+
+        boolean contains(int row) {
+            int value = column.byRow.applyAsInt(row);
+            return value >= min && value <= max;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.pokemonapi.index;
+
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.store.HeapPokemonStore;
+import org.example.pokemonapi.store.PokemonStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Descending orderings of one dataset snapshot by weight, height and base
+ * experience. Each ordering is an array of row numbers, so a top-N query only
+ * copies N references. Ties keep dex order, like a stable sort would. The
+ * orderings are built from the store's columns without creating Pokemon objects.
+ */
+public class RankingIndex {
+
+    private final PokemonStore store;
+    private final int[] byWeight;
+    private final int[] byHeight;
+    private final int[] byBaseExperience;
+
+    private RankingIndex(PokemonStore store) {
+        this.store = store;
+        this.byWeight = descending(store.size(), store::weight);
+        this.byHeight = descending(store.size(), store::height);
+        this.byBaseExperience = descending(store.size(), store::baseExperience);
+    }
+
+    public static RankingIndex build(List<Pokemon> pokemons) {
+        return new RankingIndex(new HeapPokemonStore(pokemons));
+    }
+
+    public static RankingIndex build(PokemonStore store) {
+        return new RankingIndex(store);
+    }
+
+    public boolean isFor(List<Pokemon> snapshot) {
+        return store.asList() == snapshot;
+    }
+
+    public List<Pokemon> heaviest(int limit) {
+        return top(byWeight, limit);
+    }
+
+    public List<Pokemon> highest(int limit) {
+        return top(byHeight, limit);
+    }
+
+    public List<Pokemon> mostExperienced(int limit) {
+        return top(byBaseExperience, limit);
+    }
+
+    private List<Pokemon> top(int[] order, int limit) {
+        int size = Math.max(0, Math.min(limit, order.length));
+        List<Pokemon> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(store.get(order[i]));
+        }
+        return result;
+    }
+
+    // Packs (-value, row) into one long so a primitive sort yields value descending, row ascending.
+    private static int[] descending(int size, IntUnaryOperator column) {
+        long[] keys = new long[size];
+        for (int row = 0; row < keys.length; row++) {
+            long value = column.applyAsInt(row);
+            keys[row] = (-value << 32) | row;
+        }
+        Arrays.sort(keys);
+
+        int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+}
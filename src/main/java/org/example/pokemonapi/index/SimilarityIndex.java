@@ -0,0 +1,313 @@
+package org.example.pokemonapi.index;
+
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.store.PokemonStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * KD-tree over weight, height and base experience of one dataset snapshot,
+ * scaled by one {@link Normalization}. The tree is implicit: the rows are
+ * arranged so that the middle of every range is the node splitting it on the
+ * range's axis, and the two halves are its subtrees. A k-nearest-neighbour
+ * query descends to the query's cell first and only visits the other side of
+ * a split while the splitting plane is closer than the k-th best distance so
+ * far. Ties are broken by dex order.
+ */
+public class SimilarityIndex {
+
+    private static final int DIMENSIONS = 3;
+
+    /** How each attribute is scaled before distances are taken. */
+    public enum Normalization {
+        /** Raw values; weight, with the widest range, dominates. */
+        NONE,
+        /** Each attribute mapped onto [0, 1] by the dataset's minimum and maximum. */
+        MIN_MAX,
+        /** Each attribute centred on the dataset's mean, in standard deviations. */
+        Z_SCORE;
+
+        /** Parses {@code none}, {@code min-max} or {@code z-score}; null for anything else. */
+        public static Normalization of(String name) {
+            for (Normalization normalization : values()) {
+                if (normalization.name().replace('_', '-').equalsIgnoreCase(name)) {
+                    return normalization;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return name().replace('_', '-').toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final PokemonStore store;
+    private final Normalization normalization;
+    private final double[] offset = new double[DIMENSIONS];
+    private final double[] scale = new double[DIMENSIONS];
+    // points[row * DIMENSIONS + axis], normalized
+    private final double[] points;
+    private final int[] tree;
+
+    private SimilarityIndex(PokemonStore store, Normalization normalization) {
+        this.store = store;
+        this.normalization = normalization;
+        int size = store.size();
+        IntUnaryOperator[] columns = {store::weight, store::height, store::baseExperience};
+        for (int axis = 0; axis < DIMENSIONS; axis++) {
+            fit(axis, size, columns[axis]);
+        }
+        this.points = new double[size * DIMENSIONS];
+        for (int row = 0; row < size; row++) {
+            for (int axis = 0; axis < DIMENSIONS; axis++) {
+                points[row * DIMENSIONS + axis] = normalize(axis, columns[axis].applyAsInt(row));
+            }
+        }
+        this.tree = new int[size];
+        for (int row = 0; row < size; row++) {
+            tree[row] = row;
+        }
+        build(0, size, 0);
+    }
+
+    public static SimilarityIndex build(PokemonStore store, Normalization normalization) {
+        return new SimilarityIndex(store, normalization);
+    }
+
+    public boolean isFor(PokemonStore snapshot) {
+        return store == snapshot;
+    }
+
+    /**
+     * The {@code k} Pokémon closest to {@code pokemon}, nearest first. A
+     * Pokémon with the same name is never its own neighbour.
+     */
+    public List<Pokemon> nearest(Pokemon pokemon, int k) {
+        double[] query = {
+                normalize(0, pokemon.getWeight()),
+                normalize(1, pokemon.getHeight()),
+                normalize(2, pokemon.getBaseExperience())
+        };
+        int self = store.rowOf(pokemon.getName());
+        int others = store.size() - (self >= 0 ? 1 : 0);
+        Neighbours neighbours = new Neighbours(Math.max(0, Math.min(k, others)), self);
+        if (neighbours.capacity > 0) {
+            search(0, tree.length, 0, query, neighbours);
+        }
+        int[] rows = neighbours.sorted();
+        List<Pokemon> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(store.get(row));
+        }
+        return result;
+    }
+
+    private void fit(int axis, int size, IntUnaryOperator column) {
+        if (normalization == Normalization.NONE || size == 0) {
+            scale[axis] = 1;
+            return;
+        }
+        if (normalization == Normalization.MIN_MAX) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int row = 0; row < size; row++) {
+                min = Math.min(min, column.applyAsInt(row));
+                max = Math.max(max, column.applyAsInt(row));
+            }
+            offset[axis] = min;
+            scale[axis] = max > min ? 1.0 / (max - min) : 0;
+            return;
+        }
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int row = 0; row < size; row++) {
+            double value = column.applyAsInt(row);
+            sum += value;
+            sumOfSquares += value * value;
+        }
+        double mean = sum / size;
+        double deviation = Math.sqrt(Math.max(0, sumOfSquares / size - mean * mean));
+        offset[axis] = mean;
+        scale[axis] = deviation > 0 ? 1 / deviation : 0;
+    }
+
+    private double normalize(int axis, int value) {
+        return (value - offset[axis]) * scale[axis];
+    }
+
+    private double coordinate(int row, int axis) {
+        return points[row * DIMENSIONS + axis];
+    }
+
+    // Puts the median of tree[from, to) by axis in the middle, smaller ones before it, larger after.
+    private void build(int from, int to, int axis) {
+        if (to - from <= 1) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        select(from, to - 1, middle, axis);
+        int next = (axis + 1) % DIMENSIONS;
+        build(from, middle, next);
+        build(middle + 1, to, next);
+    }
+
+    // Quickselect on tree[low, high]; ties are ordered by row so the layout is deterministic.
+    private void select(int low, int high, int target, int axis) {
+        while (low < high) {
+            int pivot = tree[(low + high) >>> 1];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (before(tree[i], pivot, axis)) {
+                    i++;
+                }
+                while (before(pivot, tree[j], axis)) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = tree[i];
+                    tree[i++] = tree[j];
+                    tree[j--] = swap;
+                }
+            }
+            if (target <= j) {
+                high = j;
+            } else if (target >= i) {
+                low = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private boolean before(int a, int b, int axis) {
+        int order = Double.compare(coordinate(a, axis), coordinate(b, axis));
+        return order < 0 || (order == 0 && a < b);
+    }
+
+    private void search(int from, int to, int axis, double[] query, Neighbours neighbours) {
+        if (from >= to) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        int row = tree[middle];
+        neighbours.offer(row, distance(row, query));
+
+        double delta = query[axis] - coordinate(row, axis);
+        int next = (axis + 1) % DIMENSIONS;
+        boolean left = delta < 0;
+        search(left ? from : middle + 1, left ? middle : to, next, query, neighbours);
+        if (!neighbours.isFull() || delta * delta <= neighbours.worstDistance()) {
+            search(left ? middle + 1 : from, left ? to : middle, next, query, neighbours);
+        }
+    }
+
+    private double distance(int row, double[] query) {
+        double sum = 0;
+        for (int axis = 0; axis < DIMENSIONS; axis++) {
+            double delta = coordinate(row, axis) - query[axis];
+            sum += delta * delta;
+        }
+        return sum;
+    }
+
+    // Bounded max-heap on (distance, row): the root is the current k-th best.
+    private static final class Neighbours {
+        private final int capacity;
+        private final int excluded;
+        private final int[] rows;
+        private final double[] distances;
+        private int size;
+
+        private Neighbours(int capacity, int excluded) {
+            this.capacity = capacity;
+            this.excluded = excluded;
+            this.rows = new int[capacity];
+            this.distances = new double[capacity];
+        }
+
+        private boolean isFull() {
+            return size == capacity;
+        }
+
+        private double worstDistance() {
+            return distances[0];
+        }
+
+        private void offer(int row, double distance) {
+            if (row == excluded) {
+                return;
+            }
+            if (size < capacity) {
+                rows[size] = row;
+                distances[size] = distance;
+                up(size++);
+            } else if (worse(rows[0], distances[0], row, distance)) {
+                rows[0] = row;
+                distances[0] = distance;
+                down(0);
+            }
+        }
+
+        private int[] sorted() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> worse(rows[a], distances[a], rows[b], distances[b]) ? 1
+                    : worse(rows[b], distances[b], rows[a], distances[a]) ? -1 : 0);
+            int[] result = new int[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = rows[order[i]];
+            }
+            return result;
+        }
+
+        private static boolean worse(int rowA, double distanceA, int rowB, double distanceB) {
+            int order = Double.compare(distanceA, distanceB);
+            return order > 0 || (order == 0 && rowA > rowB);
+        }
+
+        private void up(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!worse(rows[i], distances[i], rows[parent], distances[parent])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void down(int i) {
+            while (true) {
+                int worst = i;
+                for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                    if (worse(rows[child], distances[child], rows[worst], distances[worst])) {
+                        worst = child;
+                    }
+                }
+                if (worst == i) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int row = rows[i];
+            rows[i] = rows[j];
+            rows[j] = row;
+            double distance = distances[i];
+            distances[i] = distances[j];
+            distances[j] = distance;
+        }
+    }
+}
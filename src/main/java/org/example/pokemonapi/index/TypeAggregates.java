@@ -0,0 +1,158 @@
+package org.example.pokemonapi.index;
+
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.model.TypeSummary;
+import org.example.pokemonapi.store.PokemonStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-type count, minimum, maximum and mean of every attribute, and each
+ * type's members ranked by every attribute, for one dataset snapshot. Each
+ * Pokémon is folded into running totals once, when the snapshot is built, so
+ * answering a query never walks the dataset: a summary reads the totals and a
+ * top-N reads the first N entries of a ranking. Rankings are highest first,
+ * ties in dex order.
+ */
+public class TypeAggregates {
+
+    /** Attributes that can be summarized and ranked: the three columns, then the base stats. */
+    public static final List<String> ATTRIBUTES = attributes();
+
+    private final PokemonStore store;
+    private final Map<String, Group> groups = new TreeMap<>();
+
+    private TypeAggregates(PokemonStore store) {
+        this.store = store;
+    }
+
+    public static TypeAggregates build(PokemonStore store) {
+        TypeAggregates aggregates = new TypeAggregates(store);
+        int[] values = new int[ATTRIBUTES.size()];
+        for (int row = 0; row < store.size(); row++) {
+            aggregates.add(row, values);
+        }
+        aggregates.groups.values().forEach(Group::rank);
+        return aggregates;
+    }
+
+    // Folds one row into the running totals of each of its types; rankings are sorted once all rows are in.
+    private void add(int row, int[] values) {
+        for (int attribute = 0; attribute < values.length; attribute++) {
+            values[attribute] = value(row, attribute);
+        }
+        for (String type : store.types(row)) {
+            Group group = groups.computeIfAbsent(type, t -> new Group());
+            group.count++;
+            for (int attribute = 0; attribute < values.length; attribute++) {
+                if (values[attribute] >= 0) {
+                    group.add(attribute, row, values[attribute]);
+                }
+            }
+        }
+    }
+
+    /** Every type, alphabetically. */
+    public List<TypeSummary> summaries() {
+        List<TypeSummary> summaries = new ArrayList<>(groups.size());
+        groups.forEach((type, group) -> summaries.add(group.summary(type)));
+        return summaries;
+    }
+
+    /** The summary of {@code type}, or null if no Pokémon has it. */
+    public TypeSummary summary(String type) {
+        Group group = groups.get(type);
+        return group == null ? null : group.summary(type);
+    }
+
+    /**
+     * Up to {@code limit} Pokémon of {@code type} with the highest
+     * {@code attribute}, or null if no Pokémon has the type.
+     */
+    public List<Pokemon> top(String type, String attribute, int limit) {
+        int index = ATTRIBUTES.indexOf(attribute);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown attribute " + attribute);
+        }
+        Group group = groups.get(type);
+        if (group == null) {
+            return null;
+        }
+        int size = Math.min(Math.max(limit, 0), group.sizes[index]);
+        List<Pokemon> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(store.get(group.row(index, i)));
+        }
+        return result;
+    }
+
+    private int value(int row, int attribute) {
+        return switch (attribute) {
+            case 0 -> store.weight(row);
+            case 1 -> store.height(row);
+            case 2 -> store.baseExperience(row);
+            default -> store.stat(row, attribute - 3);
+        };
+    }
+
+    private static List<String> attributes() {
+        List<String> attributes = new ArrayList<>(List.of("weight", "height", "baseExperience"));
+        attributes.addAll(Pokemon.STATS);
+        return List.copyOf(attributes);
+    }
+
+    private static final class Group {
+        private int count;
+        private final int[] min = new int[ATTRIBUTES.size()];
+        private final int[] max = new int[ATTRIBUTES.size()];
+        private final long[] sum = new long[ATTRIBUTES.size()];
+        // ranked[attribute][0, sizes[attribute]): (Integer.MAX_VALUE - value) << 32 | row, so ascending
+        // order is highest value first with ties in dex order, and the row is the low half.
+        private final long[][] ranked = new long[ATTRIBUTES.size()][8];
+        private final int[] sizes = new int[ATTRIBUTES.size()];
+
+        private void add(int attribute, int row, int value) {
+            int size = sizes[attribute];
+            if (size == 0) {
+                min[attribute] = value;
+                max[attribute] = value;
+            } else {
+                min[attribute] = Math.min(min[attribute], value);
+                max[attribute] = Math.max(max[attribute], value);
+            }
+            sum[attribute] += value;
+            if (size == ranked[attribute].length) {
+                ranked[attribute] = Arrays.copyOf(ranked[attribute], size * 2);
+            }
+            ranked[attribute][size] = (long) (Integer.MAX_VALUE - value) << 32 | row;
+            sizes[attribute] = size + 1;
+        }
+
+        private void rank() {
+            for (int attribute = 0; attribute < ATTRIBUTES.size(); attribute++) {
+                Arrays.sort(ranked[attribute], 0, sizes[attribute]);
+            }
+        }
+
+        private int row(int attribute, int rank) {
+            return (int) ranked[attribute][rank];
+        }
+
+        private TypeSummary summary(String type) {
+            Map<String, TypeSummary.AttributeSummary> attributes = new LinkedHashMap<>();
+            for (int attribute = 0; attribute < ATTRIBUTES.size(); attribute++) {
+                int n = sizes[attribute];
+                if (n > 0) {
+                    attributes.put(ATTRIBUTES.get(attribute),
+                            new TypeSummary.AttributeSummary(min[attribute], max[attribute], (double) sum[attribute] / n));
+                }
+            }
+            return new TypeSummary(type, count, attributes);
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package org.example.pokemonapi.model;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public class Pokemon {
+    /** PokeAPI's base stats, in the order PokeAPI lists them. */
+    public static final List<String> STATS = List.of("hp", "attack", "defense", "special-attack", "special-defense", "speed");
+
     private String name;
     private int weight;
     private int height;
     private int baseExperience;
+    private List<String> types = List.of();
+    private Map<String, Integer> stats = Map.of();
+    private List<String> abilities = List.of();
 
     public Pokemon() {}
 
@@ -17,6 +25,14 @@ public class Pokemon {
         this.baseExperience = baseExperience;
     }
 
+    public Pokemon(String name, int weight, int height, int baseExperience,
+                   List<String> types, Map<String, Integer> stats, List<String> abilities) {
+        this(name, weight, height, baseExperience);
+        this.types = types;
+        this.stats = stats;
+        this.abilities = abilities;
+    }
+
     public String getName() {
         return name;
     }
@@ -49,6 +65,33 @@ public class Pokemon {
         this.baseExperience = baseExperience;
     }
 
+    /** Type names in slot order, e.g. {@code ["grass", "poison"]}. */
+    public List<String> getTypes() {
+        return types;
+    }
+
+    public void setTypes(List<String> types) {
+        this.types = types;
+    }
+
+    /** Base stats keyed by PokeAPI stat name, see {@link #STATS}. */
+    public Map<String, Integer> getStats() {
+        return stats;
+    }
+
+    public void setStats(Map<String, Integer> stats) {
+        this.stats = stats;
+    }
+
+    /** Ability names in slot order, the hidden ability last. */
+    public List<String> getAbilities() {
+        return abilities;
+    }
+
+    public void setAbilities(List<String> abilities) {
+        this.abilities = abilities;
+    }
+
     @Override
     public String toString() {
         return String.format(
@@ -68,11 +111,14 @@ public class Pokemon {
         return weight == pokemon.weight &&
                 height == pokemon.height &&
                 baseExperience == pokemon.baseExperience &&
-                Objects.equals(name, pokemon.name);
+                Objects.equals(name, pokemon.name) &&
+                Objects.equals(types, pokemon.types) &&
+                Objects.equals(stats, pokemon.stats) &&
+                Objects.equals(abilities, pokemon.abilities);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, weight, height, baseExperience);
+        return Objects.hash(name, weight, height, baseExperience, types, stats, abilities);
     }
 }
\ No newline at end of file
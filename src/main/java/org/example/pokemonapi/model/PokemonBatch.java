@@ -0,0 +1,25 @@
+package org.example.pokemonapi.model;
+
+import java.util.Map;
+
+/**
+ * Result of a batch lookup, keyed by the names or IDs as requested. A key is
+ * either in {@code pokemons} or in {@code errors}, never in both.
+ */
+public class PokemonBatch {
+    private final Map<String, Pokemon> pokemons;
+    private final Map<String, String> errors;
+
+    public PokemonBatch(Map<String, Pokemon> pokemons, Map<String, String> errors) {
+        this.pokemons = pokemons;
+        this.errors = errors;
+    }
+
+    public Map<String, Pokemon> getPokemons() {
+        return pokemons;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.pokemonapi.model;
+
+import java.util.List;
+
+/**
+ * One page of a query result. {@code total} counts every match, not only the
+ * Pokémon on this page.
+ */
+public class PokemonPage {
+    private final int total;
+    private final int offset;
+    private final List<Pokemon> pokemons;
+
+    public PokemonPage(int total, int offset, List<Pokemon> pokemons) {
+        this.total = total;
+        this.offset = offset;
+        this.pokemons = pokemons;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public List<Pokemon> getPokemons() {
+        return pokemons;
+    }
+}
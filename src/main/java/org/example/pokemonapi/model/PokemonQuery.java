@@ -0,0 +1,115 @@
+package org.example.pokemonapi.model;
+
+import java.util.Set;
+
+/**
+ * Attribute filter bound from query parameters. Every bound is inclusive and
+ * optional; the predicates that are set must all hold. Results are in dex
+ * order unless {@code sort} names an attribute.
+ */
+public class PokemonQuery {
+
+    public static final int MAX_LIMIT = 1000;
+    private static final Set<String> SORTABLE = Set.of("weight", "height", "baseExperience");
+
+    private Integer minWeight;
+    private Integer maxWeight;
+    private Integer minHeight;
+    private Integer maxHeight;
+    private Integer minBaseExperience;
+    private Integer maxBaseExperience;
+    private String sort;
+    private String order = "asc";
+    private int offset = 0;
+    private int limit = 20;
+
+    public boolean isValid() {
+        return offset >= 0 && limit >= 0 && limit <= MAX_LIMIT
+                && (sort == null || SORTABLE.contains(sort))
+                && ("asc".equals(order) || "desc".equals(order));
+    }
+
+    public boolean isDescending() {
+        return "desc".equals(order);
+    }
+
+    public Integer getMinWeight() {
+        return minWeight;
+    }
+
+    public void setMinWeight(Integer minWeight) {
+        this.minWeight = minWeight;
+    }
+
+    public Integer getMaxWeight() {
+        return maxWeight;
+    }
+
+    public void setMaxWeight(Integer maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    public Integer getMinHeight() {
+        return minHeight;
+    }
+
+    public void setMinHeight(Integer minHeight) {
+        this.minHeight = minHeight;
+    }
+
+    public Integer getMaxHeight() {
+        return maxHeight;
+    }
+
+    public void setMaxHeight(Integer maxHeight) {
+        this.maxHeight = maxHeight;
+    }
+
+    public Integer getMinBaseExperience() {
+        return minBaseExperience;
+    }
+
+    public void setMinBaseExperience(Integer minBaseExperience) {
+        this.minBaseExperience = minBaseExperience;
+    }
+
+    public Integer getMaxBaseExperience() {
+        return maxBaseExperience;
+    }
+
+    public void setMaxBaseExperience(Integer maxBaseExperience) {
+        this.maxBaseExperience = maxBaseExperience;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public String getOrder() {
+        return order;
+    }
+
+    public void setOrder(String order) {
+        this.order = order;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.pokemonapi.model;
+
+import java.util.Map;
+
+/**
+ * How many Pokémon of the loaded dataset have one type, and the minimum,
+ * maximum and mean of each attribute over them.
+ */
+public class TypeSummary {
+    private final String type;
+    private final int count;
+    private final Map<String, AttributeSummary> attributes;
+
+    public TypeSummary(String type, int count, Map<String, AttributeSummary> attributes) {
+        this.type = type;
+        this.count = count;
+        this.attributes = attributes;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /** Keyed by attribute name: weight, height, baseExperience and the base stats. */
+    public Map<String, AttributeSummary> getAttributes() {
+        return attributes;
+    }
+
+    public static class AttributeSummary {
+        private final int min;
+        private final int max;
+        private final double mean;
+
+        public AttributeSummary(int min, int max, double mean) {
+            this.min = min;
+            this.max = max;
+            this.mean = mean;
+        }
+
+        public int getMin() {
+            return min;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+    }
+}
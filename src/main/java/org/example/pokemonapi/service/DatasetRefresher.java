@@ -0,0 +1,71 @@
+package org.example.pokemonapi.service;
+
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.model.Pokemon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Re-crawls PokeAPI every {@code pokemon.refresh.interval}, or on
+ * {@code pokemon.refresh.cron} when it is set. Requests keep being answered
+ * from the current dataset while a refresh runs, and a complete crawl replaces
+ * it in one step. Details in PokemonCache are revalidated with conditional
+ * requests even before their TTL ends, so a refresh mostly costs the list pages,
+ * one 304 per unchanged species and the bodies of new or changed ones.
+ * ReactivePokemonService refreshes its own snapshot when it is read after
+ * the same interval. A partial dataset, from a crawl that failed part-way, is
+ * completed every {@code pokemon.refresh.partial-retry} instead.
+ */
+@Component
+@EnableScheduling
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "pokemon.refresh", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DatasetRefresher implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetRefresher.class);
+
+    private final PokemonService pokemonService;
+    private final PokemonProperties.Refresh settings;
+
+    public DatasetRefresher(PokemonService pokemonService, PokemonProperties properties) {
+        this.pokemonService = pokemonService;
+        this.settings = properties.getRefresh();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (settings.getCron().isBlank()) {
+            registrar.addFixedDelayTask(new FixedDelayTask(this::refresh, settings.getInterval(), settings.getInterval()));
+        } else {
+            registrar.addCronTask(this::refresh, settings.getCron());
+        }
+        registrar.addFixedDelayTask(new FixedDelayTask(this::completePartial, settings.getPartialRetry(),
+                settings.getPartialRetry()));
+    }
+
+    /** Resumes the crawl behind a partial dataset instead of serving it until the next refresh. */
+    public void completePartial() {
+        if (pokemonService.isDatasetPartial()) {
+            refresh();
+        }
+    }
+
+    public void refresh() {
+        long start = System.nanoTime();
+        try {
+            List<Pokemon> pokemons = pokemonService.refresh();
+            log.info("Refreshed {} Pokémon in {} ms", pokemons.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Scheduled refresh from PokeAPI failed; still serving the current dataset", e);
+        }
+    }
+}
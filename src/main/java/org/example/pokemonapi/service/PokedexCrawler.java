@@ -0,0 +1,192 @@
+package org.example.pokemonapi.service;
+
+import org.example.pokemonapi.exception.PokemonNotFoundException;
+import org.example.pokemonapi.model.Pokemon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Crawls the whole dex: the first page reports {@code count}, the remaining
+ * pages are requested in parallel and detail fetches start as soon as each
+ * page arrives. Pages and Pokémon fetched so far are kept as a checkpoint
+ * until a crawl completes, so a crawl that failed part-way resumes where it
+ * stopped instead of starting over.
+ */
+public class PokedexCrawler {
+
+    private static final Logger log = LoggerFactory.getLogger(PokedexCrawler.class);
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final Function<String, Pokemon> detailFetcher;
+    private final Executor executor;
+    private final int pageSize;
+    private final int concurrency;
+
+    private final Map<Integer, List<String>> pages = new ConcurrentHashMap<>();
+    private final Map<String, Pokemon> fetched = new ConcurrentHashMap<>();
+    private final Set<String> skipped = ConcurrentHashMap.newKeySet();
+    private volatile int count = -1;
+
+    public PokedexCrawler(RestTemplate restTemplate, String baseUrl, Function<String, Pokemon> detailFetcher,
+                          Executor executor, int pageSize, int concurrency) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+        this.detailFetcher = detailFetcher;
+        this.executor = executor;
+        this.pageSize = pageSize;
+        this.concurrency = concurrency;
+    }
+
+    public CrawlResult crawl() {
+        return crawl(detailFetcher);
+    }
+
+    /** Like {@link #crawl()}, but fetches the details this crawl still needs with {@code detailFetcher}. */
+    public synchronized CrawlResult crawl(Function<String, Pokemon> detailFetcher) {
+        if (!pages.containsKey(0)) {
+            PokemonService.PokemonListResponse first = fetchPage(0);
+            pages.put(0, names(first));
+            count = first.getNext() == null ? first.getResults().size() : Math.max(first.getCount(), first.getResults().size());
+        }
+
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<Void>> details = new ArrayList<>();
+        BlockingQueue<PageArrival> arrivals = new LinkedBlockingQueue<>();
+        int expectedPages = 0;
+        for (int offset = pageSize; offset < count; offset += pageSize) {
+            if (pages.containsKey(offset)) {
+                continue;
+            }
+            int pageOffset = offset;
+            expectedPages++;
+            CompletableFuture.supplyAsync(() -> fetchPage(pageOffset), executor)
+                    .whenComplete((page, error) -> arrivals.add(new PageArrival(pageOffset, page, error)));
+        }
+
+        for (List<String> names : new TreeMap<>(pages).values()) {
+            scheduleDetails(names, detailFetcher, permits, details);
+        }
+
+        boolean pagesFailed = false;
+        for (int i = 0; i < expectedPages; i++) {
+            PageArrival arrival = take(arrivals);
+            if (arrival.error != null) {
+                log.warn("Failed to fetch Pokémon list page at offset {}", arrival.offset, arrival.error);
+                pagesFailed = true;
+                continue;
+            }
+            List<String> names = names(arrival.page);
+            pages.put(arrival.offset, names);
+            scheduleDetails(names, detailFetcher, permits, details);
+        }
+
+        CompletableFuture.allOf(details.toArray(new CompletableFuture[0])).join();
+
+        List<Pokemon> pokemons = new ArrayList<>();
+        boolean detailsFailed = false;
+        for (List<String> names : new TreeMap<>(pages).values()) {
+            for (String name : names) {
+                Pokemon pokemon = fetched.get(name);
+                if (pokemon != null) {
+                    pokemons.add(pokemon);
+                } else if (!skipped.contains(name)) {
+                    detailsFailed = true;
+                }
+            }
+        }
+
+        boolean complete = !pagesFailed && !detailsFailed;
+        if (complete) {
+            reset();
+        }
+        return new CrawlResult(List.copyOf(pokemons), complete);
+    }
+
+    public synchronized void reset() {
+        pages.clear();
+        fetched.clear();
+        skipped.clear();
+        count = -1;
+    }
+
+    private void scheduleDetails(List<String> names, Function<String, Pokemon> detailFetcher, Semaphore permits,
+                                 List<CompletableFuture<Void>> details) {
+        for (String name : names) {
+            if (fetched.containsKey(name) || skipped.contains(name)) {
+                continue;
+            }
+            permits.acquireUninterruptibly();
+            details.add(CompletableFuture.runAsync(() -> {
+                try {
+                    fetched.put(name, detailFetcher.apply(name));
+                } catch (PokemonNotFoundException e) {
+                    skipped.add(name);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to fetch Pokémon '{}'", name, e);
+                } finally {
+                    permits.release();
+                }
+            }, executor));
+        }
+    }
+
+    private PokemonService.PokemonListResponse fetchPage(int offset) {
+        String url = baseUrl + "?offset=" + offset + "&limit=" + pageSize;
+        PokemonService.PokemonListResponse response = restTemplate.getForObject(url, PokemonService.PokemonListResponse.class);
+        if (response == null || response.getResults() == null) {
+            throw new RuntimeException("Failed to fetch Pokémon list");
+        }
+        return response;
+    }
+
+    private static List<String> names(PokemonService.PokemonListResponse page) {
+        return page.getResults().stream()
+                .map(PokemonService.PokemonResult::getName)
+                .toList();
+    }
+
+    private static PageArrival take(BlockingQueue<PageArrival> arrivals) {
+        try {
+            return arrivals.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while crawling the Pokédex", e);
+        }
+    }
+
+    private record PageArrival(int offset, PokemonService.PokemonListResponse page, Throwable error) {
+    }
+
+    public static class CrawlResult {
+        private final List<Pokemon> pokemons;
+        private final boolean complete;
+
+        public CrawlResult(List<Pokemon> pokemons, boolean complete) {
+            this.pokemons = pokemons;
+            this.complete = complete;
+        }
+
+        public List<Pokemon> getPokemons() {
+            return pokemons;
+        }
+
+        public boolean isComplete() {
+            return complete;
+        }
+    }
+}
@@ -1,99 +1,635 @@
 package org.example.pokemonapi.service;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.example.pokemonapi.cache.PokemonCache;
+import org.example.pokemonapi.config.ExecutorConfig;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.exception.PokeApiUnavailableException;
 import org.example.pokemonapi.exception.PokemonNotFoundException;
+import org.example.pokemonapi.index.NameIndex;
+import org.example.pokemonapi.index.RangeIndex;
+import org.example.pokemonapi.index.SimilarityIndex;
+import org.example.pokemonapi.index.TypeAggregates;
+import org.example.pokemonapi.index.RankingIndex;
 import org.example.pokemonapi.model.Pokemon;
-import org.springframework.cache.annotation.Cacheable;
+import org.example.pokemonapi.model.PokemonBatch;
+import org.example.pokemonapi.model.PokemonPage;
+import org.example.pokemonapi.model.PokemonQuery;
+import org.example.pokemonapi.model.TypeSummary;
+import org.example.pokemonapi.store.PokemonStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Comparator;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 @Service
-public class PokemonService {
-    private static final String POKEAPI_URL = "https://pokeapi.co/api/v2/pokemon/";
+public class PokemonService implements MeterBinder {
+    /** Batch error for a key that is not a PokeAPI name or id. */
+    public static final String INVALID = "invalid";
+    /** Batch error for a key PokeAPI does not know. */
+    public static final String NOT_FOUND = "not found";
+    /** Batch error for a key that could not be fetched. */
+    public static final String UNAVAILABLE = "unavailable";
+
+    private static final Logger log = LoggerFactory.getLogger(PokemonService.class);
+    // Every PokeAPI name and id; anything else would be spliced into the upstream URL.
+    private static final Pattern VALID_KEY = Pattern.compile("[a-z0-9-]+");
     private RestTemplate restTemplate; // = new RestTemplate();
-    private final ExecutorService executor = Executors.newFixedThreadPool(10);
+    private final String baseUrl;
+    private final PokemonCache cache;
+    private final Executor executor;
+    private final int pageSize;
+    private final int concurrency;
+    private final PokemonProperties.Store storeSettings;
+    private final PokedexCrawler crawler;
+    private final SingleFlight<String, Pokemon> pokemonFlights = new SingleFlight<>();
+    private final SingleFlight<String, LoadedDataset> listFlights = new SingleFlight<>();
+    private final List<Consumer<List<Pokemon>>> datasetListeners = new CopyOnWriteArrayList<>();
+    private final LongAdder datasetHits = new LongAdder();
+    private final LongAdder datasetWaits = new LongAdder();
+    private volatile MeterRegistry meterRegistry;
+    private final AtomicReference<LoadedDataset> loaded = new AtomicReference<>();
+    private volatile RankingIndex rankingIndex;
+    private volatile RangeIndex rangeIndex;
+    private volatile NameIndex nameIndex;
+    private final Map<SimilarityIndex.Normalization, SimilarityIndex> similarityIndexes = new ConcurrentHashMap<>();
+    private volatile DatasetVersion datasetVersion;
 
     public PokemonService(RestTemplate restTemplate) {
+        this(restTemplate, new PokemonProperties());
+    }
+
+    private PokemonService(RestTemplate restTemplate, PokemonProperties properties) {
+        this(restTemplate, new PokemonCache(properties), properties, new SimpleAsyncTaskExecutor(ExecutorConfig.THREAD_NAME_PREFIX));
+    }
+
+    @Autowired
+    public PokemonService(RestTemplate restTemplate, PokemonCache cache, PokemonProperties properties,
+                          @Qualifier("pokeApiExecutor") Executor executor) {
         this.restTemplate = restTemplate;
+        this.baseUrl = properties.getApi().getBaseUrl();
+        this.cache = cache;
+        this.executor = executor;
+        this.pageSize = properties.getCrawl().getPageSize();
+        this.concurrency = properties.getCrawl().getConcurrency();
+        this.storeSettings = properties.getStore();
+        this.crawler = new PokedexCrawler(restTemplate, baseUrl, this::getPokemon, executor,
+                properties.getCrawl().getPageSize(), properties.getCrawl().getConcurrency());
     }
 
-    @Cacheable("allPokemons")
     public List<Pokemon> getAllPokemons() {
-        PokemonListResponse response = restTemplate.getForObject(POKEAPI_URL, PokemonListResponse.class);
-        if (response == null || response.getResults() == null) {
-            throw new RuntimeException("Failed to fetch Pokémon list");
+        return dataset().asList();
+    }
+
+    private PokemonStore dataset() {
+        return loadedDataset().store();
+    }
+
+    private LoadedDataset loadedDataset() {
+        LoadedDataset current = loaded.get();
+        if (current != null) {
+            datasetHits.increment();
+            return current;
         }
+        datasetWaits.increment();
+        return listFlights.execute("all", () -> {
+            LoadedDataset installed = loaded.get();
+            return installed != null ? installed : load(this::getPokemon);
+        });
+    }
 
-        return response.getResults().parallelStream()
-                .map(result -> CompletableFuture.supplyAsync(() -> {
-                    try {
-                        return getPokemon(result.getName());
-                    } catch (Exception e) {
-                        return null;
-                    }
-                }, executor))
-                .map(CompletableFuture::join)
-                .filter(p -> p != null)
-                .collect(Collectors.toList());
+    /**
+     * Crawls PokeAPI again even if a dataset is loaded, and replaces it if the
+     * crawl completes. A partial crawl leaves the current dataset in place.
+     * Cached details are revalidated rather than reused, so changes show up
+     * even when the refresh runs before their TTL ends.
+     */
+    public List<Pokemon> refresh() {
+        return listFlights.execute("all", () -> load(this::revalidatePokemon)).store().asList();
+    }
+
+    /**
+     * Serves {@code pokemons} until the first complete crawl, unless a dataset
+     * has already been loaded.
+     */
+    public void restore(List<Pokemon> pokemons) {
+        if (loaded.get() == null) {
+            loaded.compareAndSet(null, LoadedDataset.build(List.copyOf(pokemons), storeSettings, false));
+        }
+    }
+
+    public void onDatasetLoaded(Consumer<List<Pokemon>> listener) {
+        datasetListeners.add(listener);
+    }
+
+    private LoadedDataset load(Function<String, Pokemon> detailFetcher) {
+        long started = System.nanoTime();
+        PokedexCrawler.CrawlResult result;
+        try {
+            result = crawler.crawl(detailFetcher);
+        } catch (RuntimeException e) {
+            recordCrawl("failed", started);
+            throw e;
+        }
+        recordCrawl(result.isComplete() ? "complete" : "partial", started);
+        LoadedDataset current = loaded.get();
+        if (!result.isComplete()) {
+            // A complete dataset beats a partial one; a partial one beats nothing, or an older partial one.
+            if (current != null && (!current.partial() || result.getPokemons().isEmpty())) {
+                return current;
+            }
+            if (result.getPokemons().isEmpty()) {
+                throw new RuntimeException("Failed to fetch Pokémon list");
+            }
+            return install(LoadedDataset.build(result.getPokemons(), storeSettings, true));
+        }
+        LoadedDataset installed = install(LoadedDataset.build(result.getPokemons(), storeSettings, false));
+        datasetListeners.forEach(listener -> listener.accept(installed.store().asList()));
+        return installed;
+    }
+
+    private LoadedDataset install(LoadedDataset dataset) {
+        loaded.set(dataset);
+        return dataset;
+    }
+
+    /**
+     * Whether the loaded dataset is what was fetched of a crawl that failed
+     * part-way. It is served until a refresh completes the crawl.
+     */
+    public boolean isDatasetPartial() {
+        LoadedDataset current = loaded.get();
+        return current != null && current.partial();
+    }
+
+    /**
+     * Publishes the size and age of the loaded dataset, how many requests found
+     * it loaded or had to wait for a crawl, and the duration of every crawl.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("pokemon.dataset.size", loaded, current -> current.get() == null ? 0 : current.get().store().size())
+                .description("Pokémon in the loaded dataset")
+                .register(registry);
+        TimeGauge.builder("pokemon.dataset.age", loaded, TimeUnit.NANOSECONDS,
+                        current -> current.get() == null ? Double.NaN : System.nanoTime() - current.get().loadedAt())
+                .description("Time since the loaded dataset was crawled or restored")
+                .register(registry);
+        FunctionCounter.builder("pokemon.dataset.requests", datasetHits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Dataset lookups, answered from the loaded dataset or waiting for a crawl")
+                .register(registry);
+        FunctionCounter.builder("pokemon.dataset.requests", datasetWaits, LongAdder::sum)
+                .tag("result", "wait")
+                .description("Dataset lookups, answered from the loaded dataset or waiting for a crawl")
+                .register(registry);
+        meterRegistry = registry;
+    }
+
+    private void recordCrawl(String outcome, long started) {
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            Timer.builder("pokemon.crawl")
+                    .description("Fan-out of a full crawl, from the first list page to the last detail")
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(registry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Looks up every key, answering cache hits directly and fetching the misses
+     * {@code pokemon.crawl.concurrency} at a time. A failed key is reported in
+     * the result as {@value #INVALID}, {@value #NOT_FOUND} or {@value #UNAVAILABLE}
+     * instead of failing the batch.
+     */
+    public PokemonBatch getPokemons(List<String> namesOrIds) {
+        Semaphore permits = new Semaphore(concurrency);
+        Map<String, CompletableFuture<Pokemon>> lookups = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (String nameOrId : new LinkedHashSet<>(namesOrIds)) {
+            if (nameOrId == null || !isValidKey(PokemonCache.normalize(nameOrId))) {
+                errors.put(String.valueOf(nameOrId), INVALID);
+                continue;
+            }
+            String key = PokemonCache.normalize(nameOrId);
+            Pokemon cached = cache.get(key);
+            if (cached != null) {
+                lookups.put(nameOrId, CompletableFuture.completedFuture(cached));
+                continue;
+            }
+            permits.acquireUninterruptibly();
+            CompletableFuture<Pokemon> lookup = CompletableFuture.supplyAsync(() -> load(key, nameOrId), executor);
+            lookup.whenComplete((pokemon, error) -> permits.release());
+            lookups.put(nameOrId, lookup);
+        }
+
+        Map<String, Pokemon> pokemons = new LinkedHashMap<>();
+        lookups.forEach((nameOrId, lookup) -> {
+            try {
+                pokemons.put(nameOrId, lookup.join());
+            } catch (CompletionException e) {
+                if (!(e.getCause() instanceof PokemonNotFoundException)) {
+                    log.warn("Batch lookup of '{}' failed: {}", nameOrId, e.getCause().toString());
+                }
+                errors.put(nameOrId, e.getCause() instanceof PokemonNotFoundException ? NOT_FOUND : UNAVAILABLE);
+            }
+        });
+        return new PokemonBatch(pokemons, errors);
+    }
+
+    // Shared with ReactivePokemonService, so both stacks reject the same keys without calling PokeAPI.
+    static boolean isValidKey(String key) {
+        return VALID_KEY.matcher(key).matches();
+    }
+
+    /**
+     * Passes the Pokémon at dex positions {@code offset} to {@code offset + limit - 1} to
+     * {@code sink} in dex order. Without a loaded dataset, only the requested list range
+     * is fetched, one page ahead: a page's details are requested as soon as it arrives,
+     * and each Pokémon is emitted once it and those before it have arrived.
+     */
+    public void streamPokemons(int offset, int limit, Consumer<Pokemon> sink) {
+        LoadedDataset current = loaded.get();
+        if (current != null) {
+            PokemonStore store = current.store();
+            int end = (int) Math.min((long) offset + limit, store.size());
+            for (int row = offset; row < end; row++) {
+                sink.accept(store.get(row));
+            }
+            return;
+        }
+        if (limit <= 0) {
+            return; // PokeAPI reads limit=0 as its default page size
+        }
+
+        Deque<CompletableFuture<Pokemon>> window = new ArrayDeque<>();
+        int listed = 0;
+        int pageLimit = Math.min(pageSize, limit);
+        CompletableFuture<PokemonListResponse> pending = fetchPage(offset, pageLimit);
+        while (pending != null) {
+            // Emit what is ready while the next page is on its way.
+            while (!pending.isDone() && !window.isEmpty()) {
+                emit(window.removeFirst(), sink);
+            }
+            PokemonListResponse page = await(pending);
+            listed += page.getResults().size();
+            pending = null;
+            if (page.getNext() != null && page.getResults().size() == pageLimit && listed < limit) {
+                pageLimit = Math.min(pageSize, limit - listed);
+                pending = fetchPage(offset + listed, pageLimit);
+            }
+            for (PokemonResult result : page.getResults()) {
+                if (window.size() == concurrency) {
+                    emit(window.removeFirst(), sink);
+                }
+                String name = result.getName();
+                window.addLast(CompletableFuture.supplyAsync(() -> getPokemon(name), executor));
+            }
+        }
+        while (!window.isEmpty()) {
+            emit(window.removeFirst(), sink);
+        }
+    }
+
+    private CompletableFuture<PokemonListResponse> fetchPage(int offset, int limit) {
+        String url = baseUrl + "?offset=" + offset + "&limit=" + limit;
+        return CompletableFuture.supplyAsync(() -> {
+            PokemonListResponse page = restTemplate.getForObject(url, PokemonListResponse.class);
+            if (page == null || page.getResults() == null) {
+                throw new RuntimeException("Failed to fetch Pokémon list");
+            }
+            return page;
+        }, executor);
+    }
+
+    private static <T> T await(CompletableFuture<T> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private static void emit(CompletableFuture<Pokemon> pending, Consumer<Pokemon> sink) {
+        Pokemon pokemon;
+        try {
+            pokemon = pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof PokemonNotFoundException) {
+                return; // listed by PokeAPI but gone since; skip it like the crawler does
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        sink.accept(pokemon);
     }
 
     public Pokemon getPokemon(String nameOrId) {
-        String url = POKEAPI_URL + nameOrId.toLowerCase();
+        String key = PokemonCache.normalize(nameOrId);
+        if (!isValidKey(key)) {
+            throw new PokemonNotFoundException("Pokémon with name or ID '" + nameOrId + "' not found.");
+        }
+        Pokemon cached = cache.get(key);
+        return cached != null ? cached : load(key, nameOrId);
+    }
+
+    // After a cache miss for key; re-checks with peek so each lookup counts as one miss.
+    private Pokemon load(String key, String nameOrId) {
+        if (cache.isKnownMissing(key)) {
+            throw new PokemonNotFoundException("Pokémon with name or ID '" + nameOrId + "' not found.");
+        }
+        return pokemonFlights.execute(key, () -> {
+            Pokemon loaded = cache.peek(key);
+            return loaded != null ? loaded : fetchPokemon(key, nameOrId);
+        });
+    }
+
+    // Asks PokeAPI even if the entry has not expired; with stored validators an unchanged Pokémon costs one 304.
+    private Pokemon revalidatePokemon(String name) {
+        String key = PokemonCache.normalize(name);
+        return pokemonFlights.execute(key, () -> fetchPokemon(key, name));
+    }
+
+    private Pokemon fetchPokemon(String key, String nameOrId) {
+        String url = baseUrl + key;
         try {
-            PokemonResponse response = restTemplate.getForObject(url, PokemonResponse.class);
+            PokemonCache.LastKnown known = cache.getLastKnown(key);
+            PokemonResponse response;
+            if (known != null && known.isRevalidatable()) {
+                ResponseEntity<PokemonResponse> revalidation = restTemplate.exchange(
+                        url, HttpMethod.GET, new HttpEntity<>(conditionalHeaders(known)), PokemonResponse.class);
+                if (revalidation.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                    cache.putNotModified(key, known);
+                    return known.pokemon();
+                }
+                response = revalidation.getBody();
+            } else {
+                response = restTemplate.getForObject(url, PokemonResponse.class);
+            }
 
             if (response == null) {
                 throw new PokemonNotFoundException("Pokémon with name or ID '" + nameOrId + "' not found.");
             }
 
-            return new Pokemon(
-                    response.getName(),
-                    response.getWeight(),
-                    response.getHeight(),
-                    response.getBaseExperience()
-            );
+            Pokemon pokemon = response.toPokemon();
+            cache.put(key, response.getId(), pokemon, response.getEtag(), response.getLastModified());
+            return pokemon;
         } catch (HttpClientErrorException e) {
             if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                cache.putMissing(key);
                 throw new PokemonNotFoundException("Pokémon with name or ID '" + nameOrId + "' not found.");
             }
-            throw e; // rethrow other unexpected errors
+            if (e.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS) {
+                throw e; // rethrow other unexpected errors
+            }
+            return lastKnown(key, nameOrId, e);
+        } catch (HttpServerErrorException | ResourceAccessException e) {
+            return lastKnown(key, nameOrId, e);
+        }
+    }
+
+    // PokeAPI is failing or throttling us even after retries: answer stale rather than not at all.
+    private Pokemon lastKnown(String key, String nameOrId, RestClientException error) {
+        PokemonCache.LastKnown known = cache.getLastKnown(key);
+        if (known == null) {
+            throw new PokeApiUnavailableException("PokeAPI is unavailable and '" + nameOrId + "' is not cached.", error);
+        }
+        log.warn("Serving stale '{}' because PokeAPI is unavailable: {}", nameOrId, error.getMessage());
+        return known.pokemon();
+    }
+
+    private static HttpHeaders conditionalHeaders(PokemonCache.LastKnown known) {
+        HttpHeaders headers = new HttpHeaders();
+        if (known.etag() != null) {
+            headers.setIfNoneMatch(known.etag());
+        }
+        if (known.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, known.lastModified());
         }
+        return headers;
     }
 
     public List<Pokemon> getHeaviestPokemons(int limit) {
-        return getAllPokemons().stream()
-                .sorted(Comparator.comparingInt(Pokemon::getWeight).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
+        return rankingIndex().heaviest(limit);
     }
 
     public List<Pokemon> getHighestPokemons(int limit) {
-        return getAllPokemons().stream()
-                .sorted(Comparator.comparingInt(Pokemon::getHeight).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
+        return rankingIndex().highest(limit);
     }
 
     public List<Pokemon> getPokemonsByBaseExperience(int limit) {
-        return getAllPokemons().stream()
-                .sorted(Comparator.comparingInt(Pokemon::getBaseExperience).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
+        return rankingIndex().mostExperienced(limit);
+    }
+
+    private RankingIndex rankingIndex() {
+        List<Pokemon> snapshot = getAllPokemons();
+        RankingIndex index = rankingIndex;
+        if (index == null || !index.isFor(snapshot)) {
+            LoadedDataset current = loaded.get();
+            index = current != null && current.store().asList() == snapshot
+                    ? RankingIndex.build(current.store())
+                    : RankingIndex.build(snapshot);
+            rankingIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Pokémon matching every range in {@code query}, answered from a RangeIndex
+     * built once per dataset instead of a scan.
+     */
+    public PokemonPage queryPokemons(PokemonQuery query) {
+        PokemonStore snapshot = dataset();
+        RangeIndex index = rangeIndex;
+        if (index == null || !index.isFor(snapshot)) {
+            index = RangeIndex.build(snapshot);
+            rangeIndex = index;
+        }
+        return index.query(query);
+    }
+
+    /**
+     * Completions and near misses for {@code query} from the names in the loaded
+     * dataset. PokeAPI is never called, so unknown or misspelled names cost no
+     * upstream request.
+     */
+    public List<Pokemon> searchPokemons(String query, int limit) {
+        PokemonStore snapshot = dataset();
+        NameIndex index = nameIndex;
+        if (index == null || !index.isFor(snapshot)) {
+            index = NameIndex.build(snapshot);
+            nameIndex = index;
+        }
+        return index.search(query, limit);
+    }
+
+    /**
+     * The {@code k} Pokémon of the loaded dataset closest to {@code nameOrId} in
+     * weight, height and base experience, from a KD-tree built once per dataset
+     * and normalization.
+     */
+    public List<Pokemon> getSimilarPokemons(String nameOrId, int k, SimilarityIndex.Normalization normalization) {
+        Pokemon pokemon = getPokemon(nameOrId);
+        PokemonStore snapshot = dataset();
+        SimilarityIndex index = similarityIndexes.get(normalization);
+        if (index == null || !index.isFor(snapshot)) {
+            index = SimilarityIndex.build(snapshot, normalization);
+            similarityIndexes.put(normalization, index);
+        }
+        return index.nearest(pokemon, k);
+    }
+
+    /** Count and attribute ranges of every type in the loaded dataset, alphabetically. */
+    public List<TypeSummary> getTypeSummaries() {
+        return typeAggregates().summaries();
+    }
+
+    /** The summary of one type, or null if no loaded Pokémon has it. */
+    public TypeSummary getTypeSummary(String type) {
+        return typeAggregates().summary(type);
+    }
+
+    /**
+     * Up to {@code limit} Pokémon of {@code type} with the highest
+     * {@code attribute}, or null if no loaded Pokémon has the type.
+     */
+    public List<Pokemon> getTopPokemonsByType(String type, String attribute, int limit) {
+        return typeAggregates().top(type, attribute, limit);
+    }
+
+    private TypeAggregates typeAggregates() {
+        return loadedDataset().typeAggregates();
+    }
+
+    /**
+     * Content hash of the loaded dataset. It changes whenever a refresh swaps in
+     * different data and is the same on every instance serving the same data.
+     */
+    public long datasetVersion() {
+        PokemonStore snapshot = dataset();
+        DatasetVersion version = datasetVersion;
+        if (version == null || version.store() != snapshot) {
+            version = new DatasetVersion(snapshot, contentHash(snapshot));
+            datasetVersion = version;
+        }
+        return version.value();
+    }
+
+    /**
+     * Version of {@code nameOrId} while it is cached: its id and PokeAPI's ETag,
+     * or a hash of its fields when PokeAPI sent none. Null when it is not cached,
+     * so a caller can tag a response without serializing it.
+     */
+    public String pokemonVersion(String nameOrId) {
+        String key = PokemonCache.normalize(nameOrId);
+        Pokemon pokemon = cache.peek(key);
+        if (pokemon == null) {
+            return null;
+        }
+        PokemonCache.LastKnown known = cache.getLastKnown(PokemonCache.normalize(pokemon.getName()));
+        if (known != null && known.pokemon() == pokemon && known.id() > 0 && known.etag() != null) {
+            return known.id() + "-" + Integer.toHexString(known.etag().hashCode());
+        }
+        return Long.toHexString(contentHash(pokemon));
+    }
+
+    private static long contentHash(Pokemon pokemon) {
+        long hash = 0xcbf29ce484222325L;
+        hash = (hash ^ pokemon.getName().hashCode()) * 0x100000001b3L;
+        hash = (hash ^ pokemon.getWeight()) * 0x100000001b3L;
+        hash = (hash ^ pokemon.getHeight()) * 0x100000001b3L;
+        hash = (hash ^ pokemon.getBaseExperience()) * 0x100000001b3L;
+        hash = (hash ^ Objects.hashCode(pokemon.getTypes())) * 0x100000001b3L;
+        hash = (hash ^ Objects.hashCode(pokemon.getAbilities())) * 0x100000001b3L;
+        return (hash ^ Objects.hashCode(pokemon.getStats())) * 0x100000001b3L;
+    }
+
+    // FNV-1a over every column, read row by row without creating Pokemon objects.
+    private static long contentHash(PokemonStore store) {
+        long hash = 0xcbf29ce484222325L;
+        for (int row = 0; row < store.size(); row++) {
+            hash = (hash ^ store.name(row).hashCode()) * 0x100000001b3L;
+            hash = (hash ^ store.weight(row)) * 0x100000001b3L;
+            hash = (hash ^ store.height(row)) * 0x100000001b3L;
+            hash = (hash ^ store.baseExperience(row)) * 0x100000001b3L;
+            hash = (hash ^ store.types(row).hashCode()) * 0x100000001b3L;
+            hash = (hash ^ store.abilities(row).hashCode()) * 0x100000001b3L;
+            for (int stat = 0; stat < Pokemon.STATS.size(); stat++) {
+                hash = (hash ^ store.stat(row, stat)) * 0x100000001b3L;
+            }
+        }
+        return hash;
+    }
+
+    private record DatasetVersion(PokemonStore store, long value) {
+    }
+
+    /**
+     * A dataset with what is built eagerly from it, published in one write so a
+     * reader never sees aggregates of another dataset. The type aggregates are
+     * built here, so the first request after a crawl does not pay for them.
+     */
+    private record LoadedDataset(PokemonStore store, TypeAggregates typeAggregates, long loadedAt, boolean partial) {
+
+        static LoadedDataset build(List<Pokemon> pokemons, PokemonProperties.Store settings, boolean partial) {
+            PokemonStore store = PokemonStore.of(pokemons, settings);
+            return new LoadedDataset(store, TypeAggregates.build(store), System.nanoTime(), partial);
+        }
     }
 
     public static class PokemonResponse {
+        public int id;
         public String name;
         public int weight;
         public int height;
         public int base_experience;
+        public List<TypeSlot> types;
+        public List<StatEntry> stats;
+        public List<AbilitySlot> abilities;
+        @JsonIgnore
+        public String etag;
+        @JsonIgnore
+        public String lastModified;
 
         public PokemonResponse() {}
 
@@ -104,13 +640,57 @@ public class PokemonService {
             this.base_experience = base_experience;
         }
 
+        public int getId() { return id; }
         public String getName() { return name; }
         public int getWeight() { return weight; }
         public int getHeight() { return height; }
         public int getBaseExperience() { return base_experience; }
+        public String getEtag() { return etag; }
+        public String getLastModified() { return lastModified; }
+
+        public Pokemon toPokemon() {
+            Map<String, Integer> baseStats = new LinkedHashMap<>();
+            if (stats != null) {
+                stats.forEach(entry -> baseStats.put(entry.stat.name, entry.base_stat));
+            }
+            return new Pokemon(name, weight, height, base_experience,
+                    types == null ? List.of() : types.stream().map(slot -> slot.type.name).toList(),
+                    Collections.unmodifiableMap(baseStats),
+                    abilities == null ? List.of() : abilities.stream().map(slot -> slot.ability.name).toList());
+        }
+    }
+
+    public static class NamedResource {
+        public String name;
+        public String url;
+
+        public NamedResource() {}
+
+        public NamedResource(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class TypeSlot {
+        public int slot;
+        public NamedResource type;
+    }
+
+    public static class StatEntry {
+        public int base_stat;
+        public int effort;
+        public NamedResource stat;
+    }
+
+    public static class AbilitySlot {
+        public NamedResource ability;
+        public boolean is_hidden;
+        public int slot;
     }
 
     public static class PokemonListResponse {
+        public int count;
+        public String next;
         public List<PokemonResult> results;
 
         public PokemonListResponse() {}
@@ -119,6 +699,14 @@ public class PokemonService {
             this.results = results;
         }
 
+        public PokemonListResponse(int count, String next, List<PokemonResult> results) {
+            this.count = count;
+            this.next = next;
+            this.results = results;
+        }
+
+        public int getCount() { return count; }
+        public String getNext() { return next; }
         public List<PokemonResult> getResults() { return results; }
     }
 
@@ -0,0 +1,254 @@
+package org.example.pokemonapi.service;
+
+import io.netty.channel.ChannelOption;
+import org.example.pokemonapi.cache.PokemonCache;
+import org.example.pokemonapi.client.ResilienceFilter;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.exception.PokemonNotFoundException;
+import org.example.pokemonapi.index.RankingIndex;
+import org.example.pokemonapi.model.Pokemon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Non-blocking counterpart of {@link PokemonService}. Shares the per-Pokémon
+ * cache with it, but keeps its own dataset snapshot. A snapshot older than
+ * {@code pokemon.refresh.interval} is still served while a crawl that fetches
+ * every detail again replaces it in the background, because DatasetRefresher
+ * only schedules refreshes for the servlet stack.
+ */
+@Service
+public class ReactivePokemonService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactivePokemonService.class);
+
+    private final WebClient webClient;
+    private final PokemonCache cache;
+    private final Duration timeout;
+    private final int pageSize;
+    private final int concurrency;
+    private final Duration maxAge;
+    private final LongSupplier nanoTime;
+    private final ConcurrentMap<String, Mono<Pokemon>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Mono<Snapshot>> crawls = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public ReactivePokemonService(WebClient.Builder webClientBuilder, PokemonCache cache, PokemonProperties properties) {
+        this(webClientBuilder, cache, properties, System::nanoTime);
+    }
+
+    public ReactivePokemonService(WebClient.Builder webClientBuilder, PokemonCache cache, PokemonProperties properties,
+                                  LongSupplier nanoTime) {
+        PokemonProperties.Http http = properties.getHttp();
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeout().toMillis())
+                .responseTimeout(http.getReadTimeout());
+        webClientBuilder
+                .baseUrl(properties.getApi().getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
+        PokemonProperties.Resilience resilience = properties.getResilience();
+        if (resilience.isEnabled()) {
+            webClientBuilder.filter(new ResilienceFilter(resilience));
+        }
+        this.webClient = webClientBuilder.build();
+        this.cache = cache;
+        this.timeout = callTimeout(http, resilience);
+        this.pageSize = properties.getCrawl().getPageSize();
+        this.concurrency = properties.getCrawl().getConcurrency();
+        this.maxAge = properties.getRefresh().isEnabled() ? properties.getRefresh().getInterval() : null;
+        this.nanoTime = nanoTime;
+    }
+
+    public Mono<Pokemon> getPokemon(String nameOrId) {
+        return Mono.defer(() -> {
+            String key = PokemonCache.normalize(nameOrId);
+            if (!PokemonService.isValidKey(key)) {
+                return Mono.error(notFound(nameOrId));
+            }
+            Pokemon cached = cache.get(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            if (cache.isKnownMissing(key)) {
+                return Mono.error(notFound(nameOrId));
+            }
+            return fetchShared(key, nameOrId);
+        });
+    }
+
+    public Flux<Pokemon> getAllPokemons() {
+        return snapshot().flatMapIterable(Snapshot::pokemons);
+    }
+
+    /**
+     * Streams the Pokémon at dex positions {@code offset} to {@code offset + limit - 1}
+     * in dex order. List pages are requested only as downstream demand reaches them.
+     */
+    public Flux<Pokemon> streamPokemons(int offset, int limit) {
+        return fetchNames(offset, limit)
+                .flatMapSequential(name -> getPokemon(name)
+                        .onErrorResume(PokemonNotFoundException.class, e -> Mono.empty()), concurrency);
+    }
+
+    public Flux<Pokemon> getHeaviestPokemons(int limit) {
+        return snapshot().flatMapIterable(loaded -> loaded.ranking().heaviest(limit));
+    }
+
+    public Flux<Pokemon> getHighestPokemons(int limit) {
+        return snapshot().flatMapIterable(loaded -> loaded.ranking().highest(limit));
+    }
+
+    public Flux<Pokemon> getPokemonsByBaseExperience(int limit) {
+        return snapshot().flatMapIterable(loaded -> loaded.ranking().mostExperienced(limit));
+    }
+
+    // Waits only for the first complete snapshot; a stale one is answered while it is replaced.
+    private Mono<Snapshot> snapshot() {
+        return Mono.defer(() -> {
+            Snapshot loaded = snapshot;
+            if (loaded == null) {
+                return crawlShared(false);
+            }
+            if (maxAge != null && nanoTime.getAsLong() - loaded.crawledAt() >= maxAge.toNanos()) {
+                crawlShared(true).subscribe(refreshed -> { },
+                        e -> log.warn("Background refresh from PokeAPI failed; still serving the current dataset", e));
+            }
+            return Mono.just(loaded);
+        });
+    }
+
+    // One crawl at a time; only a complete one becomes the snapshot.
+    private Mono<Snapshot> crawlShared(boolean refetchDetails) {
+        return crawls.computeIfAbsent("all", k -> crawl(refetchDetails)
+                .doOnNext(crawled -> {
+                    if (crawled.complete()) {
+                        snapshot = crawled;
+                    }
+                })
+                .doFinally(signal -> crawls.remove(k))
+                .cache());
+    }
+
+    private Mono<Pokemon> fetchShared(String key, String nameOrId) {
+        return inFlight.computeIfAbsent(key, k -> fetchPokemon(k, nameOrId)
+                .doFinally(signal -> inFlight.remove(k))
+                .cache());
+    }
+
+    private Mono<Pokemon> fetchPokemon(String key, String nameOrId) {
+        return webClient.get()
+                .uri("{key}", key)
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(), response -> {
+                    cache.putMissing(key);
+                    return Mono.error(notFound(nameOrId));
+                })
+                .bodyToMono(PokemonService.PokemonResponse.class)
+                .timeout(timeout)
+                .map(response -> {
+                    Pokemon pokemon = response.toPokemon();
+                    cache.put(key, response.getId(), pokemon);
+                    return pokemon;
+                });
+    }
+
+    // A refresh fetches details even if they are cached, or it would pick up nothing before their TTL ends.
+    private Mono<Snapshot> crawl(boolean refetchDetails) {
+        long started = nanoTime.getAsLong();
+        AtomicBoolean failed = new AtomicBoolean();
+        return fetchPage(0)
+                .flatMapMany(first -> {
+                    int count = first.getNext() == null
+                            ? first.getResults().size()
+                            : Math.max(first.getCount(), first.getResults().size());
+                    Flux<PokemonService.PokemonListResponse> rest = Flux.range(1, Math.max(0, (count - 1) / pageSize))
+                            .flatMapSequential(page -> fetchPage(page * pageSize)
+                                    .onErrorResume(e -> skip(failed, "list page at offset " + page * pageSize, e)), concurrency);
+                    return Flux.concat(Mono.just(first), rest);
+                })
+                .flatMapIterable(PokemonService.PokemonListResponse::getResults)
+                .flatMapSequential(result -> (refetchDetails
+                        ? fetchShared(PokemonCache.normalize(result.getName()), result.getName())
+                        : getPokemon(result.getName()))
+                        .onErrorResume(PokemonNotFoundException.class, e -> Mono.empty())
+                        .onErrorResume(e -> skip(failed, "'" + result.getName() + "'", e)), concurrency)
+                .collectList()
+                .flatMap(pokemons -> {
+                    if (pokemons.isEmpty() && failed.get()) {
+                        return Mono.error(new RuntimeException("Failed to fetch Pokémon list"));
+                    }
+                    return Mono.just(new Snapshot(List.copyOf(pokemons), !failed.get(), started));
+                });
+    }
+
+    private Flux<String> fetchNames(int offset, int remaining) {
+        if (remaining <= 0) {
+            return Flux.empty();
+        }
+        int pageLimit = Math.min(pageSize, remaining);
+        return fetchPage(offset, pageLimit).flatMapMany(page -> {
+            Flux<String> names = Flux.fromIterable(page.getResults()).map(PokemonService.PokemonResult::getName);
+            if (page.getNext() == null || page.getResults().size() < pageLimit) {
+                return names;
+            }
+            return names.concatWith(Flux.defer(() -> fetchNames(offset + pageLimit, remaining - pageLimit)));
+        });
+    }
+
+    private Mono<PokemonService.PokemonListResponse> fetchPage(int offset) {
+        return fetchPage(offset, pageSize);
+    }
+
+    private Mono<PokemonService.PokemonListResponse> fetchPage(int offset, int limit) {
+        return webClient.get()
+                .uri(builder -> builder.queryParam("offset", offset).queryParam("limit", limit).build())
+                .retrieve()
+                .bodyToMono(PokemonService.PokemonListResponse.class)
+                .timeout(timeout)
+                .filter(response -> response.getResults() != null)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Failed to fetch Pokémon list")));
+    }
+
+    // Bounds a whole call: with the resilience filter, every attempt may wait for a token and a
+    // bulkhead slot and then read for up to the read timeout, with a backoff between attempts.
+    private static Duration callTimeout(PokemonProperties.Http http, PokemonProperties.Resilience resilience) {
+        if (!resilience.isEnabled()) {
+            return http.getReadTimeout();
+        }
+        int attempts = Math.max(1, resilience.getMaxAttempts());
+        Duration attempt = http.getReadTimeout().plus(resilience.getMaxBackoff()).plus(resilience.getBulkheadWait());
+        return attempt.multipliedBy(attempts).plus(resilience.getMaxBackoff().multipliedBy(attempts - 1));
+    }
+
+    private static <T> Mono<T> skip(AtomicBoolean failed, String what, Throwable error) {
+        log.warn("Failed to fetch Pokémon {}", what, error);
+        failed.set(true);
+        return Mono.empty();
+    }
+
+    private static PokemonNotFoundException notFound(String nameOrId) {
+        return new PokemonNotFoundException("Pokémon with name or ID '" + nameOrId + "' not found.");
+    }
+
+    private record Snapshot(List<Pokemon> pokemons, RankingIndex ranking, boolean complete, long crawledAt) {
+        Snapshot(List<Pokemon> pokemons, boolean complete, long crawledAt) {
+            this(pokemons, RankingIndex.build(pokemons), complete, crawledAt);
+        }
+    }
+}
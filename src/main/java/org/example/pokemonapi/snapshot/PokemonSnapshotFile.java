@@ -0,0 +1,141 @@
+package org.example.pokemonapi.snapshot;
+
+import org.example.pokemonapi.model.Pokemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary snapshot of the dataset:
+ * <pre>
+ * int   magic "PKSN"
+ * short format version
+ * int   entry count
+ * entry* (modified UTF-8 name, int weight, int height, int baseExperience,
+ *         short type count, UTF type*, short ability count, UTF ability*,
+ *         short stat count, (UTF stat name, int base stat)*)
+ * int   CRC32 of everything above
+ * </pre>
+ * Version 1 snapshots, whose entries end after baseExperience, are still read,
+ * without types, abilities or stats.
+ */
+public final class PokemonSnapshotFile {
+
+    static final int MAGIC = 0x504B534E;
+    static final short VERSION = 2;
+    private static final short VERSION_WITHOUT_DETAILS = 1;
+
+    private PokemonSnapshotFile() {
+    }
+
+    /** Writes to a temporary file first, so readers never see a half-written snapshot. */
+    public static void write(Path path, List<Pokemon> pokemons) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                write(out, pokemons);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static void write(OutputStream out, List<Pokemon> pokemons) throws IOException {
+        CheckedOutputStream checked = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(checked);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeInt(pokemons.size());
+        for (Pokemon pokemon : pokemons) {
+            data.writeUTF(pokemon.getName());
+            data.writeInt(pokemon.getWeight());
+            data.writeInt(pokemon.getHeight());
+            data.writeInt(pokemon.getBaseExperience());
+            writeNames(data, pokemon.getTypes());
+            writeNames(data, pokemon.getAbilities());
+            data.writeShort(pokemon.getStats().size());
+            for (Map.Entry<String, Integer> stat : pokemon.getStats().entrySet()) {
+                data.writeUTF(stat.getKey());
+                data.writeInt(stat.getValue());
+            }
+        }
+        data.flush();
+        new DataOutputStream(out).writeInt((int) checked.getChecksum().getValue());
+        out.flush();
+    }
+
+    public static List<Pokemon> read(Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return read(in);
+        }
+    }
+
+    public static List<Pokemon> read(InputStream in) throws IOException {
+        CheckedInputStream checked = new CheckedInputStream(in, new CRC32());
+        DataInputStream data = new DataInputStream(checked);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a Pokémon snapshot");
+        }
+        short version = data.readShort();
+        if (version != VERSION && version != VERSION_WITHOUT_DETAILS) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+        int count = data.readInt();
+        if (count < 0) {
+            throw new IOException("Corrupt snapshot: negative entry count");
+        }
+        List<Pokemon> pokemons = new ArrayList<>(Math.min(count, 1 << 16));
+        for (int i = 0; i < count; i++) {
+            Pokemon pokemon = new Pokemon(data.readUTF(), data.readInt(), data.readInt(), data.readInt());
+            if (version == VERSION) {
+                pokemon.setTypes(readNames(data));
+                pokemon.setAbilities(readNames(data));
+                Map<String, Integer> stats = new LinkedHashMap<>();
+                for (int stat = data.readUnsignedShort(); stat > 0; stat--) {
+                    stats.put(data.readUTF(), data.readInt());
+                }
+                pokemon.setStats(Collections.unmodifiableMap(stats));
+            }
+            pokemons.add(pokemon);
+        }
+        int expected = (int) checked.getChecksum().getValue();
+        if (new DataInputStream(in).readInt() != expected) {
+            throw new IOException("Corrupt snapshot: checksum mismatch");
+        }
+        return List.copyOf(pokemons);
+    }
+
+    private static void writeNames(DataOutputStream data, List<String> names) throws IOException {
+        data.writeShort(names.size());
+        for (String name : names) {
+            data.writeUTF(name);
+        }
+    }
+
+    private static List<String> readNames(DataInputStream data) throws IOException {
+        String[] names = new String[data.readUnsignedShort()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = data.readUTF();
+        }
+        return List.of(names);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.pokemonapi.snapshot;
+
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.service.PokemonService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Serves the last snapshot from disk as soon as the application is ready, then
+ * refreshes it from PokeAPI in the background. Every complete crawl is written
+ * back to the snapshot file. The refresh runs on a thread of its own: it blocks
+ * on the page and detail fetches it hands to the PokeAPI executor, so running
+ * it there would hold a pool thread for the whole crawl.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "pokemon.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SnapshotWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotWarmup.class);
+
+    private final PokemonService pokemonService;
+    private final Path path;
+
+    public SnapshotWarmup(PokemonService pokemonService, PokemonProperties properties) {
+        this.pokemonService = pokemonService;
+        this.path = properties.getSnapshot().getPath();
+        pokemonService.onDatasetLoaded(this::save);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<Pokemon> pokemons = PokemonSnapshotFile.read(path);
+            pokemonService.restore(pokemons);
+            log.info("Loaded {} Pokémon from snapshot {}", pokemons.size(), path);
+        } catch (NoSuchFileException e) {
+            log.info("No snapshot at {}; loading from PokeAPI", path);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable snapshot {}", path, e);
+        }
+        Thread refresh = new Thread(this::refresh, "snapshot-refresh");
+        refresh.setDaemon(true);
+        refresh.start();
+    }
+
+    private void refresh() {
+        try {
+            pokemonService.refresh();
+        } catch (RuntimeException e) {
+            log.warn("Background refresh from PokeAPI failed", e);
+        }
+    }
+
+    private void save(List<Pokemon> pokemons) {
+        try {
+            PokemonSnapshotFile.write(path, pokemons);
+            log.info("Wrote {} Pokémon to snapshot {}", pokemons.size(), path);
+        } catch (IOException e) {
+            log.warn("Failed to write snapshot {}", path, e);
+        }
+    }
+}
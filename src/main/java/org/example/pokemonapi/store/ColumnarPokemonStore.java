@@ -0,0 +1,200 @@
+package org.example.pokemonapi.store;
+
+import org.example.pokemonapi.model.Pokemon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Keeps weight, height, base experience and the six base stats as int columns
+ * in a direct or memory-mapped buffer, outside the heap the GC scans. Names
+ * live in an interned dictionary indexed by row; type and ability lists are
+ * deduplicated, so Pokémon sharing a combination share one list. Pokemon
+ * objects are only created when a row is returned to a caller.
+ */
+public class ColumnarPokemonStore implements PokemonStore {
+
+    private static final int WEIGHT = 0;
+    private static final int HEIGHT = 1;
+    private static final int BASE_EXPERIENCE = 2;
+    private static final int STATS = 3;
+    private static final int COLUMNS = STATS + Pokemon.STATS.size();
+
+    private final String[] names;
+    private final List<String>[] types;
+    private final List<String>[] abilities;
+    private final int[] slots;
+    private final ByteBuffer columns;
+    private final List<Pokemon> view = new RowView();
+
+    @SuppressWarnings("unchecked")
+    private ColumnarPokemonStore(List<Pokemon> pokemons, ByteBuffer columns) {
+        int size = pokemons.size();
+        this.names = new String[size];
+        this.types = new List[size];
+        this.abilities = new List[size];
+        Map<List<String>, List<String>> lists = new HashMap<>();
+        this.slots = new int[Math.max(2, Integer.highestOneBit(Math.max(1, size)) << 2)];
+        this.columns = columns.order(ByteOrder.nativeOrder());
+        for (int row = 0; row < size; row++) {
+            Pokemon pokemon = pokemons.get(row);
+            names[row] = pokemon.getName().intern();
+            index(row);
+            this.columns.putInt(offset(WEIGHT, row), pokemon.getWeight());
+            this.columns.putInt(offset(HEIGHT, row), pokemon.getHeight());
+            this.columns.putInt(offset(BASE_EXPERIENCE, row), pokemon.getBaseExperience());
+            for (int stat = 0; stat < Pokemon.STATS.size(); stat++) {
+                this.columns.putInt(offset(STATS + stat, row), pokemon.getStats().getOrDefault(Pokemon.STATS.get(stat), -1));
+            }
+            types[row] = lists.computeIfAbsent(List.copyOf(pokemon.getTypes()), list -> list);
+            abilities[row] = lists.computeIfAbsent(List.copyOf(pokemon.getAbilities()), list -> list);
+        }
+    }
+
+    public static ColumnarPokemonStore offHeap(List<Pokemon> pokemons) {
+        return new ColumnarPokemonStore(pokemons, ByteBuffer.allocateDirect(bytes(pokemons.size())));
+    }
+
+    /**
+     * Backs the columns with a new file in {@code directory}. The file is unlinked
+     * once mapped, so the mapping outlives it and nothing is left behind.
+     */
+    public static ColumnarPokemonStore mapped(List<Pokemon> pokemons, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = Files.createTempFile(directory, "pokemon-", ".columns");
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(1, bytes(pokemons.size())));
+        } finally {
+            try {
+                Files.delete(file);
+            } catch (IOException e) {
+                file.toFile().deleteOnExit(); // platforms that cannot unlink a mapped file
+            }
+        }
+        return new ColumnarPokemonStore(pokemons, buffer);
+    }
+
+    @Override
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public String name(int row) {
+        return names[row];
+    }
+
+    @Override
+    public int weight(int row) {
+        return columns.getInt(offset(WEIGHT, row));
+    }
+
+    @Override
+    public int height(int row) {
+        return columns.getInt(offset(HEIGHT, row));
+    }
+
+    @Override
+    public int baseExperience(int row) {
+        return columns.getInt(offset(BASE_EXPERIENCE, row));
+    }
+
+    @Override
+    public List<String> types(int row) {
+        return types[row];
+    }
+
+    @Override
+    public List<String> abilities(int row) {
+        return abilities[row];
+    }
+
+    @Override
+    public int stat(int row, int stat) {
+        return columns.getInt(offset(STATS + stat, row));
+    }
+
+    @Override
+    public int rowOf(String name) {
+        for (int slot = slot(name); slots[slot] != 0; slot = (slot + 1) & (slots.length - 1)) {
+            int row = slots[slot] - 1;
+            if (names[row].equals(name)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Pokemon get(int row) {
+        Map<String, Integer> stats = new LinkedHashMap<>();
+        for (int stat = 0; stat < Pokemon.STATS.size(); stat++) {
+            int value = stat(row, stat);
+            if (value >= 0) {
+                stats.put(Pokemon.STATS.get(stat), value);
+            }
+        }
+        return new Pokemon(name(row), weight(row), height(row), baseExperience(row),
+                types[row], Collections.unmodifiableMap(stats), abilities[row]);
+    }
+
+    @Override
+    public List<Pokemon> asList() {
+        return view;
+    }
+
+    /** Off-heap bytes used by the columns. */
+    public long columnBytes() {
+        return columns.capacity();
+    }
+
+    // Open addressing over an int[] holding row + 1, so the name index costs no boxed entries.
+    private void index(int row) {
+        int slot = slot(names[row]);
+        while (slots[slot] != 0) {
+            if (names[slots[slot] - 1].equals(names[row])) {
+                return;
+            }
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        slots[slot] = row + 1;
+    }
+
+    private int slot(String name) {
+        int hash = name.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (slots.length - 1);
+    }
+
+    private int offset(int column, int row) {
+        return (column * names.length + row) * Integer.BYTES;
+    }
+
+    private static int bytes(int size) {
+        return Math.multiplyExact(size, COLUMNS * Integer.BYTES);
+    }
+
+    private class RowView extends AbstractList<Pokemon> implements RandomAccess {
+        @Override
+        public Pokemon get(int index) {
+            return ColumnarPokemonStore.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return names.length;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.pokemonapi.store;
+
+import org.example.pokemonapi.model.Pokemon;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Store over the crawled {@code List<Pokemon>} itself.
+ */
+public class HeapPokemonStore implements PokemonStore {
+
+    private final List<Pokemon> pokemons;
+    private final Map<String, Integer> rows;
+
+    public HeapPokemonStore(List<Pokemon> pokemons) {
+        this.pokemons = pokemons;
+        this.rows = new HashMap<>(pokemons.size() * 2);
+        for (int row = 0; row < pokemons.size(); row++) {
+            rows.putIfAbsent(pokemons.get(row).getName(), row);
+        }
+    }
+
+    @Override
+    public int size() {
+        return pokemons.size();
+    }
+
+    @Override
+    public String name(int row) {
+        return pokemons.get(row).getName();
+    }
+
+    @Override
+    public int weight(int row) {
+        return pokemons.get(row).getWeight();
+    }
+
+    @Override
+    public int height(int row) {
+        return pokemons.get(row).getHeight();
+    }
+
+    @Override
+    public int baseExperience(int row) {
+        return pokemons.get(row).getBaseExperience();
+    }
+
+    @Override
+    public List<String> types(int row) {
+        return pokemons.get(row).getTypes();
+    }
+
+    @Override
+    public List<String> abilities(int row) {
+        return pokemons.get(row).getAbilities();
+    }
+
+    @Override
+    public int stat(int row, int stat) {
+        return pokemons.get(row).getStats().getOrDefault(Pokemon.STATS.get(stat), -1);
+    }
+
+    @Override
+    public int rowOf(String name) {
+        return rows.getOrDefault(name, -1);
+    }
+
+    @Override
+    public Pokemon get(int row) {
+        return pokemons.get(row);
+    }
+
+    @Override
+    public List<Pokemon> asList() {
+        return pokemons;
+    }
+}
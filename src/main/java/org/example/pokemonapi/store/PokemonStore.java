@@ -0,0 +1,53 @@
+package org.example.pokemonapi.store;
+
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.model.Pokemon;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Read-only dataset snapshot addressed by row, in dex order. Attribute
+ * accessors read a single column, so scans never need to build Pokemon
+ * objects.
+ */
+public interface PokemonStore {
+
+    int size();
+
+    String name(int row);
+
+    int weight(int row);
+
+    int height(int row);
+
+    int baseExperience(int row);
+
+    List<String> types(int row);
+
+    List<String> abilities(int row);
+
+    /** Base stat {@code Pokemon.STATS.get(stat)}, or -1 if the Pokémon has none. */
+    int stat(int row, int stat);
+
+    /** Row of the Pokémon with this name, or -1. */
+    int rowOf(String name);
+
+    Pokemon get(int row);
+
+    /** List view over the rows; the same instance on every call. */
+    List<Pokemon> asList();
+
+    static PokemonStore of(List<Pokemon> pokemons, PokemonProperties.Store settings) {
+        try {
+            return switch (settings.getType()) {
+                case HEAP -> new HeapPokemonStore(pokemons);
+                case OFF_HEAP -> ColumnarPokemonStore.offHeap(pokemons);
+                case MAPPED -> ColumnarPokemonStore.mapped(pokemons, settings.getDirectory());
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create the Pokémon store", e);
+        }
+    }
+}
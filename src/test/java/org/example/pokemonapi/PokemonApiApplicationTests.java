@@ -1,13 +1,35 @@
 package org.example.pokemonapi;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
 
-@SpringBootTest
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "pokemon.snapshot.enabled=false")
 class PokemonApiApplicationTests {
 
+	@Autowired
+	private ApplicationContext context;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void pokeApiExecutor_LeavesBootsTaskExecutorInPlace() {
+		assertTrue(context.containsBean("applicationTaskExecutor"));
+		assertTrue(meterRegistry.find("executor.pool.size").meters().stream()
+				.map(meter -> meter.getId().getTag("name"))
+				.toList()
+				.containsAll(List.of("applicationTaskExecutor", "pokeApiExecutor")));
+	}
+
 }
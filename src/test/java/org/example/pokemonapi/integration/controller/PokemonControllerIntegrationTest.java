@@ -1,22 +1,51 @@
 package org.example.pokemonapi.integration.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.example.pokemonapi.config.JacksonConfig;
 import org.example.pokemonapi.controller.PokemonController;
 import org.example.pokemonapi.exception.PokemonNotFoundException;
+import org.example.pokemonapi.index.SimilarityIndex;
 import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.model.PokemonBatch;
+import org.example.pokemonapi.model.PokemonPage;
+import org.example.pokemonapi.model.TypeSummary;
 import org.example.pokemonapi.service.PokemonService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayOutputStream;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(PokemonController.class)
+@Import(JacksonConfig.class)
 public class PokemonControllerIntegrationTest {
 
     @Autowired
@@ -53,7 +82,7 @@ public class PokemonControllerIntegrationTest {
     }
 
     @Test
-    void getTop5Heaviest_ReturnsSortedList() throws Exception {
+    void getHeaviest_ReturnsSortedList() throws Exception {
         when(pokemonService.getHeaviestPokemons(5)).thenReturn(top5Heaviest);
 
         mockMvc.perform(get("/api/pokemon/heaviest"))
@@ -61,4 +90,447 @@ public class PokemonControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].name").value("snorlax"))
                 .andExpect(jsonPath("$[1].weight").value(905));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getHeaviest_RejectsLimitOutsideOneToHundred() throws Exception {
+        for (String limit : new String[]{"-1", "0", "101"}) {
+            mockMvc.perform(get("/api/pokemon/heaviest").param("limit", limit))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(header().doesNotExist("ETag"));
+        }
+        verify(pokemonService, never()).getHeaviestPokemons(anyInt());
+    }
+
+    @Test
+    void getHeaviest_UsesLimitParameter() throws Exception {
+        when(pokemonService.getHeaviestPokemons(1)).thenReturn(top5Heaviest.subList(0, 1));
+
+        mockMvc.perform(get("/api/pokemon/heaviest").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("snorlax"));
+    }
+
+    @Test
+    void getHeaviest_AnswersIfNoneMatchAndReusesBodyForSameDataset() throws Exception {
+        when(pokemonService.datasetVersion()).thenReturn(0x2aL);
+        when(pokemonService.getHeaviestPokemons(2)).thenReturn(top5Heaviest);
+
+        mockMvc.perform(get("/api/pokemon/heaviest").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"2a\""))
+                .andExpect(header().string("Cache-Control", "max-age=300, public"));
+        mockMvc.perform(get("/api/pokemon/heaviest").param("limit", "2").header("If-None-Match", "W/\"2a\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/pokemon/heaviest").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("snorlax"));
+
+        verify(pokemonService, times(1)).getHeaviestPokemons(2);
+    }
+
+    @Test
+    void getPokemon_AnswersIfNoneMatchFromCachedEntryWithoutCallingController() throws Exception {
+        when(pokemonService.pokemonVersion("pikachu")).thenReturn("19-5f");
+        when(pokemonService.getPokemon("pikachu")).thenReturn(pikachu);
+
+        mockMvc.perform(get("/api/pokemon/pikachu"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"19-5f\""))
+                .andExpect(header().string("Cache-Control", "max-age=300, public"));
+        mockMvc.perform(get("/api/pokemon/pikachu").header("If-None-Match", "W/\"19-5f\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"19-5f\""));
+
+        verify(pokemonService, times(1)).getPokemon("pikachu");
+    }
+
+    @Test
+    void getPokemon_TagsEntryCachedByTheControllerAndSkipsEntriesThatChanged() throws Exception {
+        when(pokemonService.pokemonVersion("pikachu")).thenReturn(null, "19-5f", "19-5f", "19-60");
+        when(pokemonService.getPokemon("pikachu")).thenReturn(pikachu);
+
+        mockMvc.perform(get("/api/pokemon/pikachu"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"19-5f\""));
+        mockMvc.perform(get("/api/pokemon/pikachu"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    void getPokemon_DoesNotMarkErrorsCacheable() throws Exception {
+        when(pokemonService.getPokemon("missingno")).thenThrow(new PokemonNotFoundException("Pokémon not found"));
+
+        mockMvc.perform(get("/api/pokemon/missingno"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("Cache-Control"));
+    }
+
+    @Test
+    void streamPokemons_WritesOneJsonObjectPerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Pokemon> sink = invocation.getArgument(2);
+            top5Heaviest.forEach(sink);
+            return null;
+        }).when(pokemonService).streamPokemons(eq(10), eq(2), any());
+
+        MvcResult result = mockMvc.perform(get("/api/pokemon").param("offset", "10").param("limit", "2")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"name\":\"snorlax\",\"weight\":4600,\"height\":21,\"baseExperience\":189,\"types\":[],\"stats\":{},\"abilities\":[]}\n"
+                                + "{\"name\":\"charizard\",\"weight\":905,\"height\":17,\"baseExperience\":240,\"types\":[],\"stats\":{},\"abilities\":[]}\n"));
+    }
+
+    @Test
+    void streamPokemons_WritesServerSentEvents() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Pokemon> sink = invocation.getArgument(2);
+            sink.accept(pikachu);
+            return null;
+        }).when(pokemonService).streamPokemons(eq(0), eq(Integer.MAX_VALUE), any());
+
+        MvcResult result = mockMvc.perform(get("/api/pokemon").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("data:{\"name\":\"pikachu\"")))
+                .andExpect(content().string(endsWith("}\n\n")));
+    }
+
+    @Test
+    void streamPokemons_RejectsNegativeOffset() throws Exception {
+        mockMvc.perform(get("/api/pokemon").param("offset", "-1").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getPokemons_ReturnsPartialResultsAndErrors() throws Exception {
+        Map<String, Pokemon> found = new LinkedHashMap<>();
+        found.put("pikachu", pikachu);
+        when(pokemonService.getPokemons(List.of("pikachu", "missing")))
+                .thenReturn(new PokemonBatch(found, Map.of("missing", "Pokémon not found")));
+
+        mockMvc.perform(post("/api/pokemon/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"pikachu\",\"missing\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pokemons.pikachu.weight").value(60))
+                .andExpect(jsonPath("$.errors.missing").value("Pokémon not found"));
+    }
+
+    @Test
+    void getPokemonsByIds_SplitsCommaSeparatedIds() throws Exception {
+        when(pokemonService.getPokemons(List.of("1", "4", "7")))
+                .thenReturn(new PokemonBatch(Map.of("1", pikachu), Map.of()));
+
+        mockMvc.perform(get("/api/pokemon/batch").param("ids", "1,4,7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pokemons.1.name").value("pikachu"));
+    }
+
+    @Test
+    void queryPokemons_BindsRangesSortAndPage() throws Exception {
+        when(pokemonService.queryPokemons(argThat(query -> query.getMinWeight() == 100 && query.getMaxWeight() == 500
+                && query.getMinBaseExperience() == 201 && query.getMaxHeight() == null
+                && "height".equals(query.getSort()) && query.getLimit() == 10)))
+                .thenReturn(new PokemonPage(1, 0, List.of(pikachu)));
+
+        mockMvc.perform(get("/api/pokemon/query")
+                        .param("minWeight", "100")
+                        .param("maxWeight", "500")
+                        .param("minBaseExperience", "201")
+                        .param("sort", "height")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.pokemons[0].name").value("pikachu"));
+    }
+
+    @Test
+    void queryPokemons_RejectsUnknownSortAndOversizedPage() throws Exception {
+        mockMvc.perform(get("/api/pokemon/query").param("sort", "speed"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/pokemon/query").param("limit", "5000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchPokemons_ReturnsMatchesFromTheService() throws Exception {
+        when(pokemonService.searchPokemons("pika", 5)).thenReturn(List.of(pikachu));
+
+        mockMvc.perform(get("/api/pokemon/search").param("q", "pika").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("pikachu"));
+    }
+
+    @Test
+    void searchPokemons_AnswersIfNoneMatchWithoutKeepingBodies() throws Exception {
+        when(pokemonService.datasetVersion()).thenReturn(0x2aL);
+        when(pokemonService.searchPokemons("pika", 10)).thenReturn(List.of(pikachu));
+
+        mockMvc.perform(get("/api/pokemon/search").param("q", "pika"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"2a\""));
+        mockMvc.perform(get("/api/pokemon/search").param("q", "pika").header("If-None-Match", "W/\"2a\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/pokemon/search").param("q", "pika"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("pikachu"));
+
+        verify(pokemonService, times(2)).searchPokemons("pika", 10);
+    }
+
+    @Test
+    void searchPokemons_RejectsBlankQueryAndOversizedLimit() throws Exception {
+        mockMvc.perform(get("/api/pokemon/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/pokemon/search").param("q", "pika").param("limit", "500"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getSimilarPokemons_PassesKAndNormalization() throws Exception {
+        when(pokemonService.getSimilarPokemons("bulbasaur", 3, SimilarityIndex.Normalization.MIN_MAX))
+                .thenReturn(List.of(pikachu));
+
+        mockMvc.perform(get("/api/pokemon/bulbasaur/similar").param("k", "3").param("normalization", "min-max"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("pikachu"));
+    }
+
+    @Test
+    void getSimilarPokemons_RejectsUnknownNormalizationAndOversizedK() throws Exception {
+        mockMvc.perform(get("/api/pokemon/bulbasaur/similar").param("normalization", "log"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/pokemon/bulbasaur/similar").param("k", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTypeSummary_ReturnsSummaryOrNotFound() throws Exception {
+        when(pokemonService.getTypeSummary("electric")).thenReturn(new TypeSummary("electric", 1,
+                Map.of("weight", new TypeSummary.AttributeSummary(60, 60, 60))));
+
+        mockMvc.perform(get("/api/pokemon/types/Electric"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(1))
+                .andExpect(jsonPath("$.attributes.weight.max").value(60));
+        mockMvc.perform(get("/api/pokemon/types/shadow"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getTopPokemonsByType_ValidatesAttributeAndLimit() throws Exception {
+        when(pokemonService.getTopPokemonsByType("electric", "speed", 3)).thenReturn(List.of(pikachu));
+        when(pokemonService.getTopPokemonsByType("shadow", "weight", 5)).thenReturn(null);
+
+        mockMvc.perform(get("/api/pokemon/types/electric/top").param("by", "speed").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("pikachu"));
+        mockMvc.perform(get("/api/pokemon/types/electric/top").param("by", "colour"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/pokemon/types/electric/top").param("limit", "500"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/pokemon/types/shadow/top"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getPokemon_WritesOnlyRequestedFields() throws Exception {
+        when(pokemonService.getPokemon("pikachu")).thenReturn(pikachu);
+
+        mockMvc.perform(get("/api/pokemon/pikachu").param("fields", "weight, name"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"name\":\"pikachu\",\"weight\":60}", true));
+    }
+
+    @Test
+    void fields_ProjectPokemonInsideListsAndBatches() throws Exception {
+        when(pokemonService.getHeaviestPokemons(5)).thenReturn(top5Heaviest);
+        when(pokemonService.getPokemons(List.of("pikachu")))
+                .thenReturn(new PokemonBatch(Map.of("pikachu", pikachu), Map.of()));
+
+        mockMvc.perform(get("/api/pokemon/heaviest").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"name\":\"snorlax\"},{\"name\":\"charizard\"}]", true));
+        mockMvc.perform(get("/api/pokemon/batch").param("ids", "pikachu").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"pokemons\":{\"pikachu\":{\"name\":\"pikachu\"}},\"errors\":{}}", true));
+    }
+
+    @Test
+    void streamPokemons_WritesOnlyRequestedFields() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Pokemon> sink = invocation.getArgument(2);
+            sink.accept(pikachu);
+            return null;
+        }).when(pokemonService).streamPokemons(eq(0), eq(Integer.MAX_VALUE), any());
+
+        MvcResult result = mockMvc.perform(get("/api/pokemon").param("fields", "name")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(content().string("{\"name\":\"pikachu\"}\n"));
+    }
+
+    @Test
+    void fields_RejectsUnknownFields() throws Exception {
+        when(pokemonService.getPokemon("pikachu")).thenReturn(pikachu);
+
+        mockMvc.perform(get("/api/pokemon/pikachu").param("fields", "name,colour"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/pokemon").param("fields", "").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void fields_UnknownFieldsAreA400WithoutETagEvenWhenConditional() throws Exception {
+        when(pokemonService.datasetVersion()).thenReturn(0x2aL);
+        when(pokemonService.getHeaviestPokemons(5)).thenReturn(top5Heaviest);
+
+        mockMvc.perform(get("/api/pokemon/heaviest").param("fields", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist("ETag"));
+        mockMvc.perform(get("/api/pokemon/heaviest").param("fields", "bogus").header("If-None-Match", "W/\"2a\""))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/pokemon/types/fire/top").param("by", "colour"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    void fields_IsIgnoredForBodiesWithoutPokemon() throws Exception {
+        when(pokemonService.getTypeSummaries()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/pokemon/types").param("fields", "bogus"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+    }
+
+    @Test
+    void getHeaviest_NegotiatesCborAndKeepsFieldsProjection() throws Exception {
+        when(pokemonService.getHeaviestPokemons(5)).thenReturn(top5Heaviest);
+
+        byte[] body = mockMvc.perform(get("/api/pokemon/heaviest").param("fields", "name")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(new ObjectMapper().readTree("[{\"name\":\"snorlax\"},{\"name\":\"charizard\"}]"),
+                new CBORMapper().readTree(body));
+    }
+
+    @Test
+    void getPokemon_NegotiatesSmileAndProtobuf() throws Exception {
+        when(pokemonService.getPokemon("pikachu")).thenReturn(pikachu);
+
+        byte[] smile = mockMvc.perform(get("/api/pokemon/pikachu").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("pikachu", new SmileMapper().readTree(smile).get("name").asText());
+
+        mockMvc.perform(get("/api/pokemon/pikachu").accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-protobuf"))
+                .andExpect(content().bytes(new byte[]{10, 7, 'p', 'i', 'k', 'a', 'c', 'h', 'u', 16, 60, 24, 4, 32, 112}));
+        mockMvc.perform(get("/api/pokemon/pikachu").accept(MediaType.ALL))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void listEndpoints_NegotiateProtobufPokemonList() throws Exception {
+        when(pokemonService.getHeaviestPokemons(5)).thenReturn(List.of(pikachu));
+        when(pokemonService.searchPokemons("pika", 10)).thenReturn(List.of(pikachu));
+        byte[] message = {10, 7, 'p', 'i', 'k', 'a', 'c', 'h', 'u', 16, 60, 24, 4, 32, 112};
+        ByteArrayOutputStream list = new ByteArrayOutputStream();
+        list.write(10);
+        list.write(message.length);
+        list.write(message);
+
+        mockMvc.perform(get("/api/pokemon/heaviest").accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-protobuf"))
+                .andExpect(content().bytes(list.toByteArray()));
+        mockMvc.perform(get("/api/pokemon/search").param("q", "pika").accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(list.toByteArray()));
+    }
+
+    @Test
+    void protobuf_WritesOnlyRequestedFields() throws Exception {
+        when(pokemonService.getPokemon("pikachu")).thenReturn(pikachu);
+        when(pokemonService.getHeaviestPokemons(5)).thenReturn(List.of(pikachu));
+
+        mockMvc.perform(get("/api/pokemon/pikachu").param("fields", "name").accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(new byte[]{10, 7, 'p', 'i', 'k', 'a', 'c', 'h', 'u'}));
+        mockMvc.perform(get("/api/pokemon/heaviest").param("fields", "weight").accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(new byte[]{10, 2, 16, 60}));
+        mockMvc.perform(get("/api/pokemon/pikachu").param("fields", "colour").accept("application/x-protobuf"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTypeSummaries_IsNotAvailableAsProtobuf() throws Exception {
+        when(pokemonService.getTypeSummaries()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/pokemon/types").accept("application/x-protobuf"))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void streamPokemons_WritesLengthDelimitedProtobuf() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Pokemon> sink = invocation.getArgument(2);
+            sink.accept(pikachu);
+            sink.accept(pikachu);
+            return null;
+        }).when(pokemonService).streamPokemons(eq(0), eq(Integer.MAX_VALUE), any());
+
+        MvcResult result = mockMvc.perform(get("/api/pokemon").accept("application/x-protobuf"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] message = {10, 7, 'p', 'i', 'k', 'a', 'c', 'h', 'u', 16, 60, 24, 4, 32, 112};
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 2; i++) {
+            expected.write(message.length);
+            expected.write(message);
+        }
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-protobuf"))
+                .andExpect(content().bytes(expected.toByteArray()));
+    }
+
+    @Test
+    void streamPokemons_WritesOnlyRequestedFieldsAsProtobuf() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Pokemon> sink = invocation.getArgument(2);
+            sink.accept(pikachu);
+            return null;
+        }).when(pokemonService).streamPokemons(eq(0), eq(Integer.MAX_VALUE), any());
+
+        MvcResult result = mockMvc.perform(get("/api/pokemon").param("fields", "height").accept("application/x-protobuf"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(content().bytes(new byte[]{2, 24, 4}));
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.pokemonapi.integration.controller;
+
+import org.example.pokemonapi.controller.ReactivePokemonController;
+import org.example.pokemonapi.exception.PokemonNotFoundException;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.service.ReactivePokemonService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactivePokemonController.class)
+public class ReactivePokemonControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactivePokemonService pokemonService;
+
+    @Test
+    void getPokemon_ReturnsPokemon_WhenNameValid() {
+        when(pokemonService.getPokemon("pikachu")).thenReturn(Mono.just(new Pokemon("pikachu", 60, 4, 112)));
+
+        webTestClient.get().uri("/api/reactive/pokemon/pikachu")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("pikachu")
+                .jsonPath("$.weight").isEqualTo(60);
+    }
+
+    @Test
+    void getPokemon_Returns404_WhenPokemonNotFound() {
+        when(pokemonService.getPokemon("missing"))
+                .thenReturn(Mono.error(new PokemonNotFoundException("Pokémon not found")));
+
+        webTestClient.get().uri("/api/reactive/pokemon/missing")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Pokémon not found");
+    }
+
+    @Test
+    void getHeaviest_ReturnsList() {
+        when(pokemonService.getHeaviestPokemons(2)).thenReturn(Flux.just(
+                new Pokemon("snorlax", 4600, 21, 189),
+                new Pokemon("charizard", 905, 17, 240)
+        ));
+
+        webTestClient.get().uri("/api/reactive/pokemon/heaviest?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].name").isEqualTo("snorlax")
+                .jsonPath("$[1].weight").isEqualTo(905);
+    }
+
+    @Test
+    void streamPokemons_WritesOneJsonObjectPerLine() {
+        when(pokemonService.streamPokemons(0, 2)).thenReturn(Flux.just(
+                new Pokemon("bulbasaur", 69, 7, 64),
+                new Pokemon("ivysaur", 130, 10, 142)
+        ));
+
+        webTestClient.get().uri("/api/reactive/pokemon?limit=2")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .isEqualTo("{\"name\":\"bulbasaur\",\"weight\":69,\"height\":7,\"baseExperience\":64,\"types\":[],\"stats\":{},\"abilities\":[]}\n"
+                        + "{\"name\":\"ivysaur\",\"weight\":130,\"height\":10,\"baseExperience\":142,\"types\":[],\"stats\":{},\"abilities\":[]}\n");
+    }
+}
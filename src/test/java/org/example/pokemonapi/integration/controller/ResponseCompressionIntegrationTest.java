@@ -0,0 +1,69 @@
+package org.example.pokemonapi.integration.controller;
+
+import org.example.pokemonapi.stub.StubPokeApi;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs on Tomcat, because compression happens in the connector and MockMvc never reaches it.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ResponseCompressionIntegrationTest {
+
+    private static final StubPokeApi pokeApi = StubPokeApi.recorded().start();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void pokeApi(DynamicPropertyRegistry registry) {
+        registry.add("pokemon.api.base-url", pokeApi::baseUrl);
+    }
+
+    @AfterAll
+    static void stopPokeApi() {
+        pokeApi.close();
+    }
+
+    @Test
+    void datasetViews_AreGzippedDespiteTheirETag() throws Exception {
+        for (String path : new String[]{"/api/pokemon/heaviest?limit=20", "/api/pokemon/types"}) {
+            HttpResponse<byte[]> response = get(path);
+
+            assertEquals(200, response.statusCode());
+            assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null), path);
+            assertTrue(response.headers().firstValue("ETag").orElseThrow().startsWith("W/\""), path);
+            assertTrue(gunzip(response.body()).startsWith("["), path);
+        }
+    }
+
+    private HttpResponse<byte[]> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept-Encoding", "gzip")
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package org.example.pokemonapi.integration.service;
 
+import org.example.pokemonapi.exception.PokemonNotFoundException;
 import org.example.pokemonapi.model.Pokemon;
 import org.example.pokemonapi.service.PokemonService;
+import org.example.pokemonapi.stub.StubPokeApi;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;;
+import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 
 import java.util.List;
 
@@ -15,9 +20,21 @@ import static org.junit.jupiter.api.Assertions.*;
 @ActiveProfiles("test")
 class PokemonServiceIntegrationTest {
 
+    private static final StubPokeApi pokeApi = StubPokeApi.recorded().start();
+
     @Autowired
     private PokemonService pokemonService;
 
+    @DynamicPropertySource
+    static void pokeApi(DynamicPropertyRegistry registry) {
+        registry.add("pokemon.api.base-url", pokeApi::baseUrl);
+    }
+
+    @AfterAll
+    static void stopPokeApi() {
+        pokeApi.close();
+    }
+
     @Test
     void getPokemon_ShouldReturnPokemon_WhenValidNameProvided() {
         Pokemon result = pokemonService.getPokemon("pikachu");
@@ -29,11 +46,17 @@ class PokemonServiceIntegrationTest {
         assertTrue(result.getBaseExperience() > 0);
     }
 
+    @Test
+    void getPokemon_ShouldThrowNotFound_WhenUpstreamHasNoSuchPokemon() {
+        assertThrows(PokemonNotFoundException.class, () -> pokemonService.getPokemon("charzard"));
+    }
+
     @Test
     void getHeaviestPokemons_ShouldReturnCorrectOrder() {
         List<Pokemon> result = pokemonService.getHeaviestPokemons(5);
 
         assertEquals(5, result.size());
+        assertEquals("snorlax", result.get(0).getName());
 
         for (int i = 0; i < result.size() - 1; i++) {
             assertTrue(result.get(i).getWeight() >= result.get(i + 1).getWeight(),
@@ -70,4 +93,23 @@ class PokemonServiceIntegrationTest {
                             result.get(i + 1).getName() + ")");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPokemon_ShouldKeepTypesStatsAndAbilities() {
+        Pokemon result = pokemonService.getPokemon("bulbasaur");
+
+        assertEquals(List.of("grass", "poison"), result.getTypes());
+        assertEquals(45, result.getStats().get("hp"));
+        assertEquals(Pokemon.STATS, List.copyOf(result.getStats().keySet()));
+        assertTrue(result.getAbilities().contains("overgrow"));
+    }
+
+    @Test
+    void getTopPokemonsByType_ShouldRankOnlyThatType() {
+        List<Pokemon> result = pokemonService.getTopPokemonsByType("fire", "weight", 3);
+
+        assertEquals("charizard", result.get(0).getName());
+        assertTrue(result.stream().allMatch(pokemon -> pokemon.getTypes().contains("fire")));
+        assertEquals(3, pokemonService.getTypeSummary("fire").getCount());
+    }
+}
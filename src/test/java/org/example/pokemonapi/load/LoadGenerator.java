@@ -0,0 +1,78 @@
+package org.example.pokemonapi.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are sent at a fixed rate whether or not
+ * earlier ones have completed, and each latency is measured from the time the
+ * request was scheduled, so a stalled server shows up in the percentiles
+ * instead of slowing the generator down.
+ */
+final class LoadGenerator {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /** Sends {@code count} GET requests at {@code rps}, cycling through {@code targets}. */
+    Result run(String scenario, List<URI> targets, int rps, int count) {
+        long period = 1_000_000_000L / rps;
+        long[] latencies = new long[count];
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[count];
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            long scheduled = start + i * period;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int slot = i;
+            HttpRequest request = HttpRequest.newBuilder(targets.get(i % targets.size()))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            pending[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[slot] = System.nanoTime() - scheduled;
+                        if (error != null || response.statusCode() >= 400) {
+                            failures.incrementAndGet();
+                        }
+                    });
+        }
+        CompletableFuture.allOf(pending).exceptionally(error -> null).join();
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(scenario, count, failures.get(), count * 1e9 / elapsed,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[count - 1]);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    record Result(String scenario, int requests, int failures, double throughput, long p50, long p99, long max) {
+
+        static String header() {
+            return String.format("%-28s %9s %9s %10s %10s %10s %10s",
+                    "scenario", "requests", "failures", "req/s", "p50 ms", "p99 ms", "max ms");
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s %9d %9d %10.1f %10.2f %10.2f %10.2f",
+                    scenario, requests, failures, throughput, p50 / 1e6, p99 / 1e6, max / 1e6);
+        }
+    }
+}
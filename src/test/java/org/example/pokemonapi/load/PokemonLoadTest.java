@@ -0,0 +1,94 @@
+package org.example.pokemonapi.load;
+
+import org.example.pokemonapi.cache.PokemonCache;
+import org.example.pokemonapi.stub.StubPokeApi;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the controller endpoints at a fixed rate against {@link StubPokeApi}
+ * and prints p50/p99 latency and throughput, first with empty caches and then
+ * with warm ones. Only run with {@code mvn -Pload test}; {@code load.rps},
+ * {@code load.seconds}, {@code load.dex} and {@code load.upstream-latency-ms}
+ * can be set as system properties.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class PokemonLoadTest {
+
+    private static final int RPS = Integer.getInteger("load.rps", 200);
+    private static final int SECONDS = Integer.getInteger("load.seconds", 10);
+    private static final int UPSTREAM_LATENCY_MS = Integer.getInteger("load.upstream-latency-ms", 40);
+    private static final StubPokeApi pokeApi = StubPokeApi.synthetic(Integer.getInteger("load.dex", 1300))
+            .latency(Duration.ofMillis(UPSTREAM_LATENCY_MS / 2), Duration.ofMillis(UPSTREAM_LATENCY_MS * 3 / 2))
+            .errorRate(0.01)
+            .start();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PokemonCache cache;
+
+    // The token bucket is sized for the real PokeAPI; lift it so the run measures this service.
+    @DynamicPropertySource
+    static void pokeApi(DynamicPropertyRegistry registry) {
+        registry.add("pokemon.api.base-url", pokeApi::baseUrl);
+        registry.add("pokemon.resilience.requests-per-second", () -> 100_000);
+        registry.add("pokemon.resilience.burst", () -> 100_000);
+    }
+
+    @AfterAll
+    static void stopPokeApi() {
+        pokeApi.close();
+    }
+
+    @Test
+    void coldAndWarmCaches() {
+        LoadGenerator generator = new LoadGenerator();
+        List<URI> views = List.of(
+                uri("/api/pokemon/heaviest"),
+                uri("/api/pokemon/highest?limit=10"),
+                uri("/api/pokemon/most-experienced"),
+                uri("/api/pokemon/query?minWeight=100&maxWeight=500&minBaseExperience=201&sort=height"));
+        List<URI> details = new ArrayList<>();
+        for (String name : pokeApi.names()) {
+            details.add(uri("/api/pokemon/" + name));
+        }
+        Collections.shuffle(details, new Random(42));
+
+        List<LoadGenerator.Result> results = new ArrayList<>();
+        results.add(generator.run("top-N and query, cold", views, RPS, RPS * SECONDS));
+        results.add(generator.run("top-N and query, warm", views, RPS, RPS * SECONDS));
+        cache.invalidateAll();
+        results.add(generator.run("single Pokemon, cold", details, RPS, details.size()));
+        results.add(generator.run("single Pokemon, warm", details, RPS, RPS * SECONDS));
+
+        System.out.printf("%n%d Pokemon, upstream latency %d ms +-50%%, 1%% upstream errors, %d req/s offered%n",
+                details.size(), UPSTREAM_LATENCY_MS, RPS);
+        System.out.println(LoadGenerator.Result.header());
+        results.forEach(System.out::println);
+
+        assertEquals(0, results.get(1).failures());
+        assertEquals(0, results.get(3).failures());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
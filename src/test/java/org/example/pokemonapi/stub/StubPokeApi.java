@@ -0,0 +1,218 @@
+package org.example.pokemonapi.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Local stand-in for PokeAPI's {@code /api/v2/pokemon} resource, so tests and
+ * load tests never depend on pokeapi.co. It serves the recorded detail
+ * responses in {@code src/test/resources/pokeapi/pokemon}, or a synthetic dex
+ * of any size, and builds list pages the way PokeAPI does. Detail responses
+ * carry an ETag and answer {@code If-None-Match} with 304. Every response can
+ * be delayed by a uniformly distributed latency and replaced by a 503 or a
+ * 429 at configurable rates.
+ */
+public class StubPokeApi implements AutoCloseable {
+
+    private static final String PATH = "/api/v2/pokemon/";
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final List<Entry> entries;
+    private final Map<String, Entry> byKey = new HashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private Duration minLatency = Duration.ZERO;
+    private Duration maxLatency = Duration.ZERO;
+    private volatile double errorRate;
+    private volatile double throttleRate;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private StubPokeApi(List<Entry> entries) {
+        this.entries = entries.stream().sorted(Comparator.comparingInt(Entry::id)).toList();
+        for (Entry entry : this.entries) {
+            byKey.put(entry.name(), entry);
+            byKey.put(String.valueOf(entry.id()), entry);
+        }
+    }
+
+    /** The recorded PokeAPI responses, in dex order. */
+    public static StubPokeApi recorded() {
+        try {
+            List<Entry> entries = new ArrayList<>();
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath:pokeapi/pokemon/*.json")) {
+                String body = resource.getContentAsString(StandardCharsets.UTF_8);
+                // Read the top-level fields; nested abilities, forms and types have names of their own.
+                JsonNode fixture = JSON.readTree(body);
+                entries.add(new Entry(fixture.get("id").asInt(), fixture.get("name").asText(), body));
+            }
+            return new StubPokeApi(entries);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** {@code size} generated Pokémon named {@code pokemon-<id>}, the same on every call. */
+    public static StubPokeApi synthetic(int size) {
+        Random random = new Random(42);
+        List<Entry> entries = new ArrayList<>(size);
+        for (int id = 1; id <= size; id++) {
+            String name = "pokemon-" + id;
+            String body = "{\"id\":" + id + ",\"name\":\"" + name + "\",\"base_experience\":" + random.nextInt(400)
+                    + ",\"height\":" + (1 + random.nextInt(200)) + ",\"weight\":" + (1 + random.nextInt(10_000)) + "}";
+            entries.add(new Entry(id, name, body));
+        }
+        return new StubPokeApi(entries);
+    }
+
+    public StubPokeApi latency(Duration min, Duration max) {
+        this.minLatency = min;
+        this.maxLatency = max;
+        return this;
+    }
+
+    /** Share of requests answered with 503 Service Unavailable. */
+    public StubPokeApi errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /** Share of requests answered with 429 Too Many Requests and {@code Retry-After: 1}. */
+    public StubPokeApi throttleRate(double throttleRate) {
+        this.throttleRate = throttleRate;
+        return this;
+    }
+
+    public StubPokeApi start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+        server.start();
+        return this;
+    }
+
+    /** Value for {@code pokemon.api.base-url}. */
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + PATH;
+    }
+
+    public List<String> names() {
+        return entries.stream().map(Entry::name).toList();
+    }
+
+    public int requests() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            sleep();
+            double fault = ThreadLocalRandom.current().nextDouble();
+            if (fault < errorRate) {
+                respond(exchange, 503, "{\"detail\":\"Service unavailable\"}");
+                return;
+            }
+            if (fault < errorRate + throttleRate) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                respond(exchange, 429, "{\"detail\":\"Too many requests\"}");
+                return;
+            }
+
+            String key = exchange.getRequestURI().getPath().substring(PATH.length()).replace("/", "");
+            if (key.isEmpty()) {
+                respond(exchange, 200, page(exchange.getRequestURI().getQuery()));
+                return;
+            }
+            Entry entry = byKey.get(key);
+            if (entry == null) {
+                respond(exchange, 404, "Not Found");
+                return;
+            }
+            String etag = "\"" + Integer.toHexString(entry.body().hashCode()) + "\"";
+            exchange.getResponseHeaders().add("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            respond(exchange, 200, entry.body());
+        }
+    }
+
+    private String page(String query) {
+        Map<String, Integer> parameters = new HashMap<>();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                String[] pair = parameter.split("=", 2);
+                parameters.put(pair[0], Integer.parseInt(pair[1]));
+            }
+        }
+        int offset = Math.max(0, parameters.getOrDefault("offset", 0));
+        int limit = Math.max(1, parameters.getOrDefault("limit", 20));
+        int end = Math.min(entries.size(), offset + limit);
+        String next = end < entries.size() ? "\"" + baseUrl() + "?offset=" + end + "&limit=" + limit + "\"" : "null";
+        String results = entries.subList(Math.min(offset, end), end).stream()
+                .map(entry -> "{\"name\":\"" + entry.name() + "\",\"url\":\"" + baseUrl() + entry.id() + "/\"}")
+                .collect(Collectors.joining(","));
+        return "{\"count\":" + entries.size() + ",\"next\":" + next + ",\"previous\":null,\"results\":[" + results + "]}";
+    }
+
+    private void sleep() {
+        long min = minLatency.toNanos();
+        long max = maxLatency.toNanos();
+        if (max <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(min + ThreadLocalRandom.current().nextLong(max - min + 1)).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private record Entry(int id, String name, String body) {
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.pokemonapi.unit.cache;
+
+import org.example.pokemonapi.cache.PokemonCache;
+import org.example.pokemonapi.cache.PokemonCacheStats;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.model.Pokemon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private PokemonProperties properties;
+    private PokemonCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PokemonProperties();
+        properties.getCache().setTtl(Duration.ofMinutes(10));
+        properties.getCache().setNegativeTtl(Duration.ofSeconds(30));
+        properties.getCache().setMaxSize(2);
+        cache = new PokemonCache(properties, nanos::get);
+    }
+
+    @Test
+    void normalize_ShouldLowercaseNamesAndStripLeadingZerosFromIds() {
+        assertEquals("pikachu", PokemonCache.normalize(" Pikachu "));
+        assertEquals("25", PokemonCache.normalize("025"));
+        assertEquals("mr-mime", PokemonCache.normalize("MR-MIME"));
+    }
+
+    @Test
+    void get_ShouldShareEntryBetweenNameAndId() {
+        Pokemon pikachu = new Pokemon("pikachu", 60, 4, 112);
+        cache.put("pikachu", 25, pikachu);
+
+        assertSame(pikachu, cache.get("pikachu"));
+        assertSame(pikachu, cache.get("25"));
+        assertEquals(1, cache.stats().getSize());
+    }
+
+    @Test
+    void get_ShouldResolveRequestedIdWhenFetchedById() {
+        Pokemon bulbasaur = new Pokemon("bulbasaur", 69, 7, 64);
+        cache.put("1", 1, bulbasaur);
+
+        assertSame(bulbasaur, cache.get("bulbasaur"));
+        assertSame(bulbasaur, cache.get("1"));
+    }
+
+    @Test
+    void get_ShouldResolveEveryAliasWhileTheEntriesAreCached() {
+        Pokemon deoxys = new Pokemon("deoxys-normal", 608, 17, 270);
+        Pokemon giratina = new Pokemon("giratina-altered", 7500, 45, 306);
+        cache.put("deoxys", 386, deoxys);
+        cache.put("giratina", 487, giratina);
+
+        assertSame(deoxys, cache.get("deoxys"));
+        assertSame(deoxys, cache.get("386"));
+        assertSame(giratina, cache.get("giratina"));
+        assertSame(giratina, cache.get("487"));
+        assertEquals(deoxys, cache.getLastKnown("deoxys").pokemon());
+        assertEquals(giratina, cache.getLastKnown("giratina").pokemon());
+    }
+
+    @Test
+    void get_ShouldExpireEntriesAfterTtl() {
+        cache.put("pikachu", 25, new Pokemon("pikachu", 60, 4, 112));
+
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        assertNull(cache.get("pikachu"));
+        assertNull(cache.get("25"));
+    }
+
+    @Test
+    void isKnownMissing_ShouldExpireAfterNegativeTtl() {
+        cache.putMissing("charzard");
+
+        assertTrue(cache.isKnownMissing("charzard"));
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertFalse(cache.isKnownMissing("charzard"));
+    }
+
+    @Test
+    void put_ShouldClearNegativeEntryForSameKey() {
+        cache.putMissing("pikachu");
+        cache.put("pikachu", 25, new Pokemon("pikachu", 60, 4, 112));
+
+        assertFalse(cache.isKnownMissing("pikachu"));
+    }
+
+    @Test
+    void getLastKnown_ShouldOutliveExpiredEntryUntilNotModifiedRenewsIt() {
+        Pokemon pikachu = new Pokemon("pikachu", 60, 4, 112);
+        cache.put("25", 25, pikachu, "\"v1\"", "Wed, 01 Oct 2025 00:00:00 GMT");
+
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        assertNull(cache.get("pikachu"));
+        PokemonCache.LastKnown known = cache.getLastKnown("25");
+        assertEquals("\"v1\"", known.etag());
+        assertSame(known, cache.getLastKnown("pikachu"));
+
+        cache.putNotModified("25", known);
+
+        assertSame(pikachu, cache.get("pikachu"));
+        assertSame(pikachu, cache.get("25"));
+        assertEquals(1, cache.stats().getNotModified());
+    }
+
+    @Test
+    void getLastKnown_ShouldKeepEntryWithoutValidatorsForStaleReads() {
+        cache.put("pikachu", 25, new Pokemon("pikachu", 60, 4, 112));
+
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        assertEquals("pikachu", cache.getLastKnown("pikachu").pokemon().getName());
+        assertFalse(cache.getLastKnown("pikachu").isRevalidatable());
+    }
+
+    @Test
+    void stats_ShouldCountHitsMissesAndEvictions() {
+        cache.put("bulbasaur", 1, new Pokemon("bulbasaur", 69, 7, 64));
+        cache.put("ivysaur", 2, new Pokemon("ivysaur", 130, 10, 142));
+        cache.put("venusaur", 3, new Pokemon("venusaur", 1000, 20, 263));
+        cache.putMissing("charzard");
+
+        cache.get("venusaur");
+        cache.get("missingno");
+        cache.isKnownMissing("charzard");
+
+        PokemonCacheStats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getEvictions());
+        assertEquals(1, stats.getNegativeHits());
+        assertEquals(2, stats.getSize());
+    }
+
+    @Test
+    void peek_ShouldFindEntriesWithoutCountingThem() {
+        cache.put("25", 25, new Pokemon("pikachu", 60, 4, 112));
+
+        assertEquals("pikachu", cache.peek("25").getName());
+        assertNull(cache.peek("missingno"));
+
+        assertEquals(0, cache.stats().getHits());
+        assertEquals(0, cache.stats().getMisses());
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.pokemonapi.unit.client;
+
+import org.example.pokemonapi.client.PokemonResponseConverter;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.service.PokemonService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonResponseConverterTest {
+
+    private final PokemonResponseConverter converter = new PokemonResponseConverter();
+
+    @Test
+    void read_ShouldKeepTopLevelFieldsAndSkipNestedOnes() throws IOException {
+        String json = """
+                {"abilities":[{"ability":{"name":"static","url":"https://pokeapi.co/api/v2/ability/9/"},"slot":1}],
+                 "base_experience":112,
+                 "forms":[{"name":"pikachu-form","url":""}],
+                 "height":4,
+                 "id":25,
+                 "moves":[{"move":{"name":"mega-punch"},"version_group_details":[{"level_learned_at":0,"order":null}]}],
+                 "name":"pikachu",
+                 "sprites":{"front_default":"x.png","other":{"home":{"front_default":"y.png"}}},
+                 "stats":[{"base_stat":35,"stat":{"name":"hp"}}],
+                 "weight":60}""";
+
+        PokemonService.PokemonResponse response = read(json);
+
+        assertEquals(25, response.getId());
+        assertEquals("pikachu", response.getName());
+        assertEquals(60, response.getWeight());
+        assertEquals(4, response.getHeight());
+        assertEquals(112, response.getBaseExperience());
+    }
+
+    @Test
+    void read_ShouldKeepTypeStatAndAbilityNames() throws IOException {
+        String json = """
+                {"abilities":[{"ability":{"name":"overgrow","url":""},"is_hidden":false,"slot":1},
+                              {"ability":{"name":"chlorophyll","url":""},"is_hidden":true,"slot":3}],
+                 "name":"bulbasaur",
+                 "stats":[{"base_stat":45,"effort":0,"stat":{"name":"hp","url":""}},
+                          {"base_stat":49,"effort":0,"stat":{"name":"attack","url":""}}],
+                 "types":[{"slot":1,"type":{"name":"grass","url":""}},{"slot":2,"type":{"name":"poison","url":""}}],
+                 "weight":69}""";
+
+        Pokemon pokemon = read(json).toPokemon();
+
+        assertEquals(List.of("grass", "poison"), pokemon.getTypes());
+        assertEquals(Map.of("hp", 45, "attack", 49), pokemon.getStats());
+        assertEquals(List.of("overgrow", "chlorophyll"), pokemon.getAbilities());
+        assertEquals(69, pokemon.getWeight());
+    }
+
+    @Test
+    void read_ShouldTreatNullBaseExperienceAsZero() throws IOException {
+        PokemonService.PokemonResponse response = read("{\"base_experience\":null,\"name\":\"pikachu-cosplay\",\"weight\":60}");
+
+        assertEquals(0, response.getBaseExperience());
+        assertEquals("pikachu-cosplay", response.getName());
+    }
+
+    @Test
+    void read_ShouldKeepValidatorHeaders() throws IOException {
+        MockHttpInputMessage message = new MockHttpInputMessage("{\"name\":\"pikachu\"}".getBytes(StandardCharsets.UTF_8));
+        message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        message.getHeaders().setETag("W/\"5a2c\"");
+        message.getHeaders().set(HttpHeaders.LAST_MODIFIED, "Wed, 01 Oct 2025 00:00:00 GMT");
+
+        PokemonService.PokemonResponse response = converter.read(PokemonService.PokemonResponse.class, message);
+
+        assertEquals("W/\"5a2c\"", response.getEtag());
+        assertEquals("Wed, 01 Oct 2025 00:00:00 GMT", response.getLastModified());
+    }
+
+    @Test
+    void read_ShouldRejectMalformedJson() {
+        assertThrows(HttpMessageNotReadableException.class, () -> read("[\"not\",\"an\",\"object\"]"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"name\":"));
+    }
+
+    @Test
+    void converter_ShouldOnlyReadPokemonResponse() {
+        assertTrue(converter.canRead(PokemonService.PokemonResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(PokemonService.PokemonListResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(PokemonService.PokemonResponse.class, MediaType.APPLICATION_JSON));
+    }
+
+    private PokemonService.PokemonResponse read(String json) throws IOException {
+        MockHttpInputMessage message = new MockHttpInputMessage(json.getBytes(StandardCharsets.UTF_8));
+        message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return converter.read(PokemonService.PokemonResponse.class, message);
+    }
+}
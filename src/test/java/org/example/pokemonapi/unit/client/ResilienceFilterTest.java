@@ -0,0 +1,139 @@
+package org.example.pokemonapi.unit.client;
+
+import org.example.pokemonapi.client.CallNotPermittedException;
+import org.example.pokemonapi.client.CircuitBreaker;
+import org.example.pokemonapi.client.ResilienceFilter;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilienceFilterTest {
+
+    private static final URI URL = URI.create("http://pokeapi.test/pokemon");
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Integer> faults = new ConcurrentLinkedQueue<>();
+    private final AtomicLong nanos = new AtomicLong();
+    private final PokemonProperties.Resilience settings = new PokemonProperties().getResilience();
+
+    // Answers with the next queued status, or 200 once the queue is empty; -1 is a connection failure.
+    private final ExchangeFunction upstream = request -> {
+        hits.incrementAndGet();
+        Integer status = faults.poll();
+        if (status == null) {
+            return Mono.just(ClientResponse.create(HttpStatus.OK).body("ok").build());
+        }
+        if (status < 0) {
+            return Mono.error(new WebClientRequestException(new IOException("Connection refused"),
+                    request.method(), request.url(), request.headers()));
+        }
+        ClientResponse.Builder response = ClientResponse.create(HttpStatus.valueOf(status)).body("fault");
+        if (status == 429) {
+            response.header("Retry-After", "60");
+        }
+        return Mono.just(response.build());
+    };
+
+    @BeforeEach
+    void setUp() {
+        settings.setBackoff(Duration.ofMillis(1));
+        settings.setMaxBackoff(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void filter_ShouldRetryServerErrorsAndConnectionFailures() {
+        faults.add(503);
+        faults.add(-1);
+        ResilienceFilter filter = new ResilienceFilter(settings, nanos::get);
+
+        StepVerifier.create(filter.filter(get(), upstream))
+                .assertNext(response -> assertEquals(HttpStatus.OK, response.statusCode()))
+                .verifyComplete();
+
+        assertEquals(3, hits.get());
+    }
+
+    @Test
+    void filter_ShouldNotRetryPost() {
+        faults.add(503);
+        ResilienceFilter filter = new ResilienceFilter(settings, nanos::get);
+
+        StepVerifier.create(filter.filter(ClientRequest.create(HttpMethod.POST, URL).build(), upstream))
+                .assertNext(response -> assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.statusCode()))
+                .verifyComplete();
+
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void filter_ShouldReturnThrottleWhenRetryAfterExceedsMaxBackoff() {
+        faults.add(429);
+        ResilienceFilter filter = new ResilienceFilter(settings, nanos::get);
+
+        StepVerifier.create(filter.filter(get(), upstream))
+                .assertNext(response -> assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.statusCode()))
+                .verifyComplete();
+
+        assertEquals(1, hits.get());
+        assertEquals(CircuitBreaker.State.CLOSED, filter.circuitState("pokeapi.test"));
+    }
+
+    @Test
+    void filter_ShouldOpenCircuitAndRejectWithoutCallingUpstream() {
+        settings.setMaxAttempts(1);
+        settings.setFailureThreshold(2);
+        faults.add(500);
+        faults.add(500);
+        ResilienceFilter filter = new ResilienceFilter(settings, nanos::get);
+        filter.filter(get(), upstream).block();
+        filter.filter(get(), upstream).block();
+
+        StepVerifier.create(filter.filter(get(), upstream))
+                .expectErrorSatisfies(e -> assertInstanceOf(CallNotPermittedException.class, e.getCause()))
+                .verify();
+
+        assertEquals(2, hits.get());
+        assertEquals(CircuitBreaker.State.OPEN, filter.circuitState("pokeapi.test"));
+    }
+
+    @Test
+    void filter_ShouldRejectWhenBulkheadStaysFullWithoutCountingAFailure() {
+        settings.setMaxConcurrentCalls(1);
+        settings.setBulkheadWait(Duration.ofMillis(20));
+        settings.setFailureThreshold(1);
+        Sinks.One<ClientResponse> pending = Sinks.one();
+        ResilienceFilter filter = new ResilienceFilter(settings, nanos::get);
+        filter.filter(get(), request -> pending.asMono()).subscribe();
+
+        StepVerifier.create(filter.filter(get(), upstream))
+                .expectErrorSatisfies(e -> assertInstanceOf(CallNotPermittedException.class, e.getCause()))
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(0, hits.get());
+        assertEquals(CircuitBreaker.State.CLOSED, filter.circuitState("pokeapi.test"));
+        pending.tryEmitValue(ClientResponse.create(HttpStatus.OK).build());
+        StepVerifier.create(filter.filter(get(), upstream)).expectNextCount(1).verifyComplete();
+    }
+
+    private static ClientRequest get() {
+        return ClientRequest.create(HttpMethod.GET, URL).build();
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.pokemonapi.unit.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.pokemonapi.client.CallNotPermittedException;
+import org.example.pokemonapi.client.CircuitBreaker;
+import org.example.pokemonapi.client.ResilienceInterceptor;
+import org.example.pokemonapi.config.HttpClientConfig;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilienceInterceptorTest {
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Integer> faults = new ConcurrentLinkedQueue<>();
+    private final AtomicLong nanos = new AtomicLong();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile String retryAfter = "0";
+    private volatile String unavailableRetryAfter;
+    private final PokemonProperties.Resilience settings = new PokemonProperties().getResilience();
+    private HttpServer server;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        // Answers with the next queued status, or 200 once the queue is empty.
+        server.createContext("/pokemon", exchange -> {
+            hits.incrementAndGet();
+            Integer status = faults.poll();
+            if (status == null) {
+                respond(exchange, 200, "ok");
+            } else {
+                if (status == 429) {
+                    exchange.getResponseHeaders().add("Retry-After", retryAfter);
+                } else if (status == 503 && unavailableRetryAfter != null) {
+                    exchange.getResponseHeaders().add("Retry-After", unavailableRetryAfter);
+                }
+                respond(exchange, status, "fault");
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            hits.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "late");
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort();
+        settings.setBackoff(Duration.ofMillis(1));
+        settings.setMaxBackoff(Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void intercept_ShouldRetryServerErrorsUntilSuccess() {
+        faults.add(503);
+        faults.add(502);
+
+        assertEquals("ok", restTemplate(new ResilienceInterceptor(settings)).getForObject(url + "/pokemon", String.class));
+        assertEquals(3, hits.get());
+    }
+
+    @Test
+    void intercept_ShouldGiveUpAfterMaxAttempts() {
+        faults.add(500);
+        faults.add(500);
+        faults.add(500);
+        faults.add(500);
+
+        assertThrows(HttpServerErrorException.class,
+                () -> restTemplate(new ResilienceInterceptor(settings)).getForObject(url + "/pokemon", String.class));
+        assertEquals(3, hits.get());
+    }
+
+    @Test
+    void intercept_ShouldNotRetryOtherMethods() {
+        faults.add(503);
+
+        assertThrows(HttpServerErrorException.class,
+                () -> restTemplate(new ResilienceInterceptor(settings)).postForObject(url + "/pokemon", "{}", String.class));
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void intercept_ShouldOpenCircuitAfterConsecutiveFailuresAndProbeAfterOpenDuration() {
+        settings.setMaxAttempts(1);
+        settings.setFailureThreshold(2);
+        settings.setOpenDuration(Duration.ofSeconds(30));
+        ResilienceInterceptor interceptor = new ResilienceInterceptor(settings, nanos::get);
+        RestTemplate restTemplate = restTemplate(interceptor);
+        faults.add(503);
+        faults.add(503);
+
+        assertThrows(HttpServerErrorException.class, () -> restTemplate.getForObject(url + "/pokemon", String.class));
+        assertThrows(HttpServerErrorException.class, () -> restTemplate.getForObject(url + "/pokemon", String.class));
+        ResourceAccessException rejected = assertThrows(ResourceAccessException.class,
+                () -> restTemplate.getForObject(url + "/pokemon", String.class));
+
+        assertInstanceOf(CallNotPermittedException.class, rejected.getCause());
+        assertEquals(CircuitBreaker.State.OPEN, interceptor.circuitState("localhost"));
+        assertEquals(2, hits.get());
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertEquals("ok", restTemplate.getForObject(url + "/pokemon", String.class));
+        assertEquals(CircuitBreaker.State.CLOSED, interceptor.circuitState("localhost"));
+    }
+
+    @Test
+    void intercept_ShouldProbeAgainWhenHalfOpenTrialIsRejectedByRateLimit() {
+        settings.setMaxAttempts(1);
+        settings.setFailureThreshold(1);
+        settings.setOpenDuration(Duration.ofSeconds(30));
+        ResilienceInterceptor interceptor = new ResilienceInterceptor(settings, nanos::get);
+        RestTemplate restTemplate = restTemplate(interceptor);
+        unavailableRetryAfter = "120";
+        faults.add(503);
+
+        assertThrows(HttpServerErrorException.class, () -> restTemplate.getForObject(url + "/pokemon", String.class));
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // The breaker lets a trial through, but the bucket is still paused by Retry-After.
+        ResourceAccessException rejected = assertThrows(ResourceAccessException.class,
+                () -> restTemplate.getForObject(url + "/pokemon", String.class));
+        assertInstanceOf(CallNotPermittedException.class, rejected.getCause());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, interceptor.circuitState("localhost"));
+        nanos.addAndGet(Duration.ofSeconds(90).toNanos());
+
+        assertEquals("ok", restTemplate.getForObject(url + "/pokemon", String.class));
+        assertEquals(CircuitBreaker.State.CLOSED, interceptor.circuitState("localhost"));
+        assertEquals(2, hits.get());
+    }
+
+    @Test
+    void intercept_ShouldWaitForRetryAfterWhenThrottled() {
+        retryAfter = "1";
+        faults.add(429);
+        RestTemplate restTemplate = restTemplate(new ResilienceInterceptor(settings));
+
+        long start = System.nanoTime();
+        assertEquals("ok", restTemplate.getForObject(url + "/pokemon", String.class));
+
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(900).toNanos());
+        assertEquals(2, hits.get());
+    }
+
+    @Test
+    void intercept_ShouldReturnThrottleWhenRetryAfterExceedsMaxBackoff() {
+        retryAfter = "60";
+        faults.add(429);
+        ResilienceInterceptor interceptor = new ResilienceInterceptor(settings);
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class,
+                () -> restTemplate(interceptor).getForObject(url + "/pokemon", String.class));
+        assertEquals(1, hits.get());
+        assertEquals(CircuitBreaker.State.CLOSED, interceptor.circuitState("localhost"));
+    }
+
+    @Test
+    void intercept_ShouldRejectCallsBeyondBulkhead() throws Exception {
+        settings.setMaxConcurrentCalls(1);
+        settings.setBulkheadWait(Duration.ofMillis(50));
+        RestTemplate restTemplate = restTemplate(new ResilienceInterceptor(settings));
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> restTemplate.getForObject(url + "/slow", String.class));
+        while (hits.get() == 0) {
+            Thread.onSpinWait();
+        }
+
+        ResourceAccessException rejected = assertThrows(ResourceAccessException.class,
+                () -> restTemplate.getForObject(url + "/slow", String.class));
+        release.countDown();
+
+        assertInstanceOf(CallNotPermittedException.class, rejected.getCause());
+        assertEquals("late", first.get(5, TimeUnit.SECONDS));
+    }
+
+    private static RestTemplate restTemplate(ResilienceInterceptor interceptor) {
+        PokemonProperties.Http http = new PokemonProperties().getHttp();
+        http.setReadTimeout(Duration.ofSeconds(5));
+        RestTemplate restTemplate = new RestTemplate(HttpClientConfig.createRequestFactory(http));
+        restTemplate.getInterceptors().add(interceptor);
+        return restTemplate;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.pokemonapi.unit.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.pokemonapi.client.UpstreamMetricsInterceptor;
+import org.example.pokemonapi.config.HttpClientConfig;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/ok", exchange -> status(exchange, 200));
+        server.createContext("/missing", exchange -> status(exchange, 404));
+        server.createContext("/broken", exchange -> status(exchange, 503));
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            status(exchange, 200);
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PokemonProperties.Http.Client.class)
+    void intercept_ShouldTimeEveryRequestByOutcome(PokemonProperties.Http.Client client) {
+        PokemonProperties.Http http = new PokemonProperties().getHttp();
+        http.setClient(client);
+        http.setReadTimeout(Duration.ofMillis(200));
+        RestTemplate restTemplate = new RestTemplate(new InterceptingClientHttpRequestFactory(
+                HttpClientConfig.createRequestFactory(http), List.of(new UpstreamMetricsInterceptor(registry))));
+
+        restTemplate.getForObject(baseUrl + "/ok", String.class);
+        restTemplate.getForObject(baseUrl + "/ok", String.class);
+        assertThrows(RestClientException.class, () -> restTemplate.getForObject(baseUrl + "/missing", String.class));
+        assertThrows(RestClientException.class, () -> restTemplate.getForObject(baseUrl + "/broken", String.class));
+        assertThrows(RestClientException.class, () -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+
+        assertEquals(2, count("200"));
+        assertEquals(1, count("404"));
+        assertEquals(1, count("5xx"));
+        assertEquals(1, count("timeout"));
+    }
+
+    private long count(String outcome) {
+        return registry.get(UpstreamMetricsInterceptor.METRIC)
+                .tags("host", "localhost", "outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private static void status(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.pokemonapi.unit.config;
+
+import org.example.pokemonapi.config.ExecutorConfig;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ExecutorConfigTest {
+
+    @Test
+    void fixedMode_ShouldRunOnNamedDaemonPoolThreads() throws Exception {
+        PokemonProperties.Executor settings = new PokemonProperties().getExecutor();
+        settings.setThreads(2);
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) ExecutorConfig.createExecutor(settings);
+        executor.initialize();
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            assertTrue(thread.getName().startsWith(ExecutorConfig.THREAD_NAME_PREFIX));
+            assertTrue(thread.isDaemon());
+            assertEquals(2, executor.getMaxPoolSize());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void virtualModes_ShouldFailClearlyBeforeJava21() {
+        assumeTrue(Runtime.version().feature() < 21);
+        PokemonProperties.Executor settings = new PokemonProperties().getExecutor();
+        settings.setMode(PokemonProperties.Executor.Mode.BOUNDED_VIRTUAL);
+
+        assertThrows(IllegalStateException.class, () -> ExecutorConfig.createExecutor(settings));
+    }
+
+    @Test
+    void boundedVirtualMode_ShouldLimitConcurrentTasks() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21);
+        PokemonProperties.Executor settings = new PokemonProperties().getExecutor();
+        settings.setMode(PokemonProperties.Executor.Mode.BOUNDED_VIRTUAL);
+        settings.setMaxConcurrency(3);
+        AsyncTaskExecutor executor = ExecutorConfig.createExecutor(settings);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch submitted = new CountDownLatch(1);
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(executor.submitCompletable(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    submitted.await(5, TimeUnit.SECONDS);
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }));
+        }
+        submitted.countDown();
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertEquals(3, maxRunning.get());
+    }
+}
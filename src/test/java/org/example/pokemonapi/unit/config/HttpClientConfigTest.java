@@ -0,0 +1,163 @@
+package org.example.pokemonapi.unit.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.pokemonapi.config.HttpClientConfig;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.service.PokemonService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientConfigTest {
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/fast", exchange -> respond(exchange, "ok"));
+        server.createContext("/pokemon", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            respond(exchange, "application/json", "{\"id\":25,\"name\":\"pikachu\",\"weight\":60}");
+        });
+        server.createContext("/slow", exchange -> {
+            sleep(1000);
+            respond(exchange, "late");
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PokemonProperties.Http.Client.class)
+    void createRequestFactory_ShouldReuseConnectionsForRepeatedCalls(PokemonProperties.Http.Client client) {
+        PokemonProperties.Http http = settings(client);
+        http.setReadTimeout(Duration.ofSeconds(5));
+        RestTemplate restTemplate = new RestTemplate(HttpClientConfig.createRequestFactory(http));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("ok", restTemplate.getForObject(baseUrl + "/fast", String.class));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PokemonProperties.Http.Client.class)
+    void createRequestFactory_ShouldApplyReadTimeout(PokemonProperties.Http.Client client) {
+        RestTemplate restTemplate = new RestTemplate(HttpClientConfig.createRequestFactory(settings(client)));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PokemonProperties.Http.Client.class)
+    void restTemplate_ShouldKeepETagAndAnswerConditionalRequestWithoutBody(PokemonProperties.Http.Client client) {
+        RestTemplate restTemplate = new HttpClientConfig().restTemplate(HttpClientConfig.createRequestFactory(settings(client)), new PokemonProperties());
+
+        PokemonService.PokemonResponse response = restTemplate.getForObject(baseUrl + "/pokemon", PokemonService.PokemonResponse.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(response.getEtag());
+        ResponseEntity<PokemonService.PokemonResponse> revalidation = restTemplate.exchange(
+                baseUrl + "/pokemon", HttpMethod.GET, new HttpEntity<>(headers), PokemonService.PokemonResponse.class);
+
+        assertEquals("pikachu", response.getName());
+        assertEquals("\"v1\"", response.getEtag());
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getStatusCode());
+        assertNull(revalidation.getBody());
+    }
+
+    @Test
+    void pokeApiRequestFactory_ShouldCloseApacheConnectionPoolWithTheContext() throws Exception {
+        PokemonProperties properties = new PokemonProperties();
+        properties.getHttp().setClient(PokemonProperties.Http.Client.APACHE);
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(PokemonProperties.class, () -> properties);
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.register(HttpClientConfig.class);
+        context.refresh();
+        ClientHttpRequestFactory factory = context.getBean("pokeApiRequestFactory", ClientHttpRequestFactory.class);
+        RestTemplate restTemplate = new RestTemplate(factory);
+        assertEquals("ok", restTemplate.getForObject(baseUrl + "/fast", String.class));
+
+        context.close();
+
+        assertThrows(IllegalStateException.class, () -> restTemplate.getForObject(baseUrl + "/fast", String.class));
+    }
+
+    @Test
+    void ignoredPoolSettings_ShouldListPoolSettingsChangedOnlyForTheJdkClient() {
+        PokemonProperties.Http http = settings(PokemonProperties.Http.Client.JDK);
+        assertEquals(List.of(), HttpClientConfig.ignoredPoolSettings(http));
+
+        http.setMaxConnections(8);
+        http.setKeepAlive(Duration.ofSeconds(5));
+        assertEquals(List.of("pokemon.http.keep-alive", "pokemon.http.max-connections"),
+                HttpClientConfig.ignoredPoolSettings(http));
+
+        http.setClient(PokemonProperties.Http.Client.APACHE);
+        assertEquals(List.of(), HttpClientConfig.ignoredPoolSettings(http));
+    }
+
+    private static PokemonProperties.Http settings(PokemonProperties.Http.Client client) {
+        PokemonProperties.Http http = new PokemonProperties().getHttp();
+        http.setClient(client);
+        http.setReadTimeout(Duration.ofMillis(200));
+        return http;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        respond(exchange, "text/plain", body);
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.example.pokemonapi.unit.controller;
 
 import org.example.pokemonapi.controller.PokemonController;
 import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.model.PokemonBatch;
 import org.example.pokemonapi.service.PokemonService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,9 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -49,7 +52,23 @@ class PokemonControllerTest {
     }
 
     @Test
-    void getTop5HeaviestPokemons_ShouldReturnCorrectOrder() {
+    void getPokemons_ShouldReturnBatchFromService() {
+        PokemonBatch batch = new PokemonBatch(Map.of("bulbasaur", testPokemons.get(0)), Map.of());
+        when(pokemonService.getPokemons(List.of("bulbasaur"))).thenReturn(batch);
+
+        assertSame(batch, pokemonController.getPokemons(List.of("bulbasaur")).getBody());
+    }
+
+    @Test
+    void getPokemons_ShouldRejectOversizedBatch() {
+        List<String> keys = Collections.nCopies(1001, "bulbasaur");
+
+        assertEquals(400, pokemonController.getPokemons(keys).getStatusCode().value());
+        verify(pokemonService, never()).getPokemons(any());
+    }
+
+    @Test
+    void getHeaviestPokemons_ShouldReturnCorrectOrder() {
         List<Pokemon> expectedOrder = Arrays.asList(
                 testPokemons.get(2),
                 testPokemons.get(4),
@@ -59,7 +78,7 @@ class PokemonControllerTest {
         );
         when(pokemonService.getHeaviestPokemons(5)).thenReturn(expectedOrder);
 
-        List<Pokemon> result = pokemonController.getTop5HeaviestPokemons();
+        List<Pokemon> result = pokemonController.getHeaviestPokemons(5).getBody();
 
         assertEquals(1000, result.get(0).getWeight());
         assertEquals(190, result.get(1).getWeight());
@@ -67,7 +86,7 @@ class PokemonControllerTest {
     }
 
     @Test
-    void getTop5HighestPokemons_ShouldReturnCorrectOrder() {
+    void getHighestPokemons_ShouldReturnCorrectOrder() {
         List<Pokemon> expectedOrder = Arrays.asList(
                 testPokemons.get(2),
                 testPokemons.get(4),
@@ -77,7 +96,7 @@ class PokemonControllerTest {
         );
         when(pokemonService.getHighestPokemons(5)).thenReturn(expectedOrder);
 
-        List<Pokemon> result = pokemonController.getTop5HighestPokemons();
+        List<Pokemon> result = pokemonController.getHighestPokemons(5).getBody();
 
         assertEquals(20, result.get(0).getHeight());
         assertEquals(11, result.get(1).getHeight());
@@ -85,16 +104,34 @@ class PokemonControllerTest {
     }
 
     @Test
-    void getTop5MostExperiencedPokemons_ShouldReturnAllWithSameExperience() {
+    void getMostExperiencedPokemons_ShouldReturnAllWithSameExperience() {
         when(pokemonService.getPokemonsByBaseExperience(5)).thenReturn(testPokemons);
 
-        List<Pokemon> result = pokemonController.getTop5MostExperiencedPokemons();
+        List<Pokemon> result = pokemonController.getMostExperiencedPokemons(5).getBody();
 
         assertEquals(5, result.size());
         assertEquals(0, result.get(0).getBaseExperience());
         assertEquals(0, result.get(4).getBaseExperience());
     }
 
+    @Test
+    void rankings_ShouldRejectLimitsOutsideOneToHundred() {
+        for (int limit : new int[]{-1, 0, 101, 100000}) {
+            assertEquals(400, pokemonController.getHeaviestPokemons(limit).getStatusCode().value());
+            assertEquals(400, pokemonController.getHighestPokemons(limit).getStatusCode().value());
+            assertEquals(400, pokemonController.getMostExperiencedPokemons(limit).getStatusCode().value());
+        }
+        verifyNoInteractions(pokemonService);
+    }
+
+    @Test
+    void rankings_ShouldAcceptLimitsFromOneToHundred() {
+        when(pokemonService.getHeaviestPokemons(anyInt())).thenReturn(testPokemons);
+
+        assertEquals(200, pokemonController.getHeaviestPokemons(1).getStatusCode().value());
+        assertEquals(200, pokemonController.getHeaviestPokemons(100).getStatusCode().value());
+    }
+
     @Test
     void getPokemon_ShouldHandleServiceException() {
         when(pokemonService.getPokemon("missing")).thenThrow(new RuntimeException());
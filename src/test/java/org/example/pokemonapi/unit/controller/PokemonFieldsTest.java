@@ -0,0 +1,50 @@
+package org.example.pokemonapi.unit.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.pokemonapi.controller.PokemonFields;
+import org.example.pokemonapi.model.Pokemon;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonFieldsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .addMixIn(Pokemon.class, PokemonFields.Filtered.class)
+            .setFilterProvider(PokemonFields.ALL);
+    private final PokemonFields fields = new PokemonFields(objectMapper);
+    private final Pokemon bulbasaur = new Pokemon("bulbasaur", 69, 7, 64, List.of("grass", "poison"),
+            Map.of("hp", 45), List.of("overgrow"));
+
+    @Test
+    void names_ShouldListEveryJsonProperty() {
+        assertEquals(List.of("name", "weight", "height", "baseExperience", "types", "stats", "abilities"), fields.names());
+    }
+
+    @Test
+    void parse_ShouldReuseOneProjectionPerFieldSet() {
+        PokemonFields.Projection projection = fields.parse("name,weight");
+
+        assertSame(projection, fields.parse(" weight ,name,name"));
+        assertNotSame(projection, fields.parse("name"));
+    }
+
+    @Test
+    void parse_ShouldRejectUnknownOrMissingFields() {
+        assertNull(fields.parse("name,colour"));
+        assertNull(fields.parse(""));
+        assertNull(fields.parse("name,"));
+    }
+
+    @Test
+    void writer_ShouldWriteOnlyTheSelectedFields() throws JsonProcessingException {
+        assertEquals("{\"name\":\"bulbasaur\",\"types\":[\"grass\",\"poison\"]}",
+                fields.parse("types,name").writer().writeValueAsString(bulbasaur));
+        assertEquals(objectMapper.copy().setMixIns(Map.of()).writeValueAsString(bulbasaur),
+                fields.all().writer().writeValueAsString(bulbasaur));
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.pokemonapi.unit.controller;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import org.example.pokemonapi.controller.PokemonProtobufConverter;
+import org.example.pokemonapi.model.Pokemon;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonProtobufConverterTest {
+
+    private static final Type POKEMON_LIST = new ParameterizedTypeReference<List<Pokemon>>() {
+    }.getType();
+    private static final Pattern MESSAGE = Pattern.compile("message (\\w+) \\{([^}]*)}");
+    private static final Pattern FIELD = Pattern.compile("(repeated )?(\\w+) (\\w+) = (\\d+);");
+    private static final Type STRING_LIST = new ParameterizedTypeReference<List<String>>() {
+    }.getType();
+
+    private final PokemonProtobufConverter converter = new PokemonProtobufConverter();
+    private final Pokemon bulbasaur = new Pokemon("bulbasaur", 69, 7, 64, List.of("grass", "poison"),
+            stats(45, 49, 49, 65, 65, 45), List.of("overgrow", "chlorophyll"));
+    private final Pokemon missingno = new Pokemon("missingno", 0, 10, 0);
+
+    @Test
+    void write_ShouldFollowThePublishedSchema() throws IOException {
+        Descriptors.FileDescriptor schema = schema();
+
+        DynamicMessage pokemon = DynamicMessage.parseFrom(schema.findMessageTypeByName("Pokemon"), write(bulbasaur, Pokemon.class));
+
+        assertEquals(bulbasaur, toPokemon(pokemon));
+    }
+
+    @Test
+    void write_ShouldWrapListsInPokemonList() throws IOException {
+        Descriptors.Descriptor type = schema().findMessageTypeByName("PokemonList");
+
+        DynamicMessage list = DynamicMessage.parseFrom(type, write(List.of(bulbasaur, missingno), POKEMON_LIST));
+
+        Descriptors.FieldDescriptor pokemons = type.findFieldByName("pokemons");
+        assertEquals(2, list.getRepeatedFieldCount(pokemons));
+        assertEquals(bulbasaur, toPokemon((DynamicMessage) list.getRepeatedField(pokemons, 0)));
+        assertEquals(missingno, toPokemon((DynamicMessage) list.getRepeatedField(pokemons, 1)));
+    }
+
+    @Test
+    void writeDelimited_ShouldWriteLengthPrefixedMessages() throws IOException {
+        Descriptors.Descriptor type = schema().findMessageTypeByName("Pokemon");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PokemonProtobufConverter.writeDelimited(out, bulbasaur);
+        PokemonProtobufConverter.writeDelimited(out, missingno);
+
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        DynamicMessage.Builder first = DynamicMessage.newBuilder(type);
+        DynamicMessage.Builder second = DynamicMessage.newBuilder(type);
+        assertTrue(first.mergeDelimitedFrom(in));
+        assertTrue(second.mergeDelimitedFrom(in));
+        assertEquals(List.of(bulbasaur, missingno), List.of(toPokemon(first.build()), toPokemon(second.build())));
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    void write_ShouldLeaveOutFieldsNotProjected() throws IOException {
+        Descriptors.Descriptor type = schema().findMessageTypeByName("Pokemon");
+
+        byte[] body = write(new PokemonProtobufConverter.Projected(bulbasaur, Set.of("name", "stats")), Pokemon.class);
+
+        assertEquals(new Pokemon("bulbasaur", 0, 0, 0, List.of(), bulbasaur.getStats(), List.of()),
+                toPokemon(DynamicMessage.parseFrom(type, body)));
+    }
+
+    @Test
+    void converter_ShouldListProtobufForPokemonAndListClasses() {
+        assertEquals(List.of(PokemonProtobufConverter.PROTOBUF), converter.getSupportedMediaTypes(Pokemon.class));
+        assertEquals(List.of(PokemonProtobufConverter.PROTOBUF), converter.getSupportedMediaTypes(ArrayList.class));
+        assertEquals(List.of(), converter.getSupportedMediaTypes(String.class));
+    }
+
+    @Test
+    void converter_ShouldOnlyWritePokemonAndListsOfPokemon() {
+        MediaType protobuf = PokemonProtobufConverter.PROTOBUF;
+
+        assertTrue(converter.canWrite(Pokemon.class, Pokemon.class, protobuf));
+        assertTrue(converter.canWrite(POKEMON_LIST, List.class, protobuf));
+        assertFalse(converter.canWrite(STRING_LIST, List.class, protobuf));
+        assertFalse(converter.canWrite(Pokemon.class, Pokemon.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(Pokemon.class, null, protobuf));
+    }
+
+    private byte[] write(Object body, Type type) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(body, type, PokemonProtobufConverter.PROTOBUF, message);
+        return message.getBodyAsBytes();
+    }
+
+    private static Pokemon toPokemon(DynamicMessage message) {
+        Descriptors.Descriptor type = message.getDescriptorForType();
+        Descriptors.Descriptor stat = type.findFieldByName("stats").getMessageType();
+        Map<String, Integer> stats = new LinkedHashMap<>();
+        for (Object entry : (List<?>) message.getField(type.findFieldByName("stats"))) {
+            DynamicMessage statMessage = (DynamicMessage) entry;
+            stats.put((String) statMessage.getField(stat.findFieldByName("name")),
+                    (Integer) statMessage.getField(stat.findFieldByName("base_stat")));
+        }
+        return new Pokemon(
+                (String) message.getField(type.findFieldByName("name")),
+                (Integer) message.getField(type.findFieldByName("weight")),
+                (Integer) message.getField(type.findFieldByName("height")),
+                (Integer) message.getField(type.findFieldByName("base_experience")),
+                strings(message.getField(type.findFieldByName("types"))),
+                stats,
+                strings(message.getField(type.findFieldByName("abilities"))));
+    }
+
+    private static List<String> strings(Object field) {
+        return ((List<?>) field).stream().map(String.class::cast).toList();
+    }
+
+    private static Map<String, Integer> stats(int... values) {
+        Map<String, Integer> stats = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            stats.put(Pokemon.STATS.get(i), values[i]);
+        }
+        return stats;
+    }
+
+    // Builds descriptors from the published pokemon.proto, so the test fails if the encoder and the file drift apart.
+    private static Descriptors.FileDescriptor schema() throws IOException {
+        String proto = new ClassPathResource("static/schema/pokemon.proto").getContentAsString(StandardCharsets.UTF_8)
+                .replaceAll("//[^\\n]*", "");
+        FileDescriptorProto.Builder file = FileDescriptorProto.newBuilder().setName("pokemon.proto").setSyntax("proto3");
+        Matcher message = MESSAGE.matcher(proto);
+        while (message.find()) {
+            DescriptorProto.Builder type = DescriptorProto.newBuilder().setName(message.group(1));
+            Matcher field = FIELD.matcher(message.group(2));
+            while (field.find()) {
+                FieldDescriptorProto.Builder descriptor = FieldDescriptorProto.newBuilder()
+                        .setName(field.group(3))
+                        .setNumber(Integer.parseInt(field.group(4)))
+                        .setLabel(field.group(1) != null
+                                ? FieldDescriptorProto.Label.LABEL_REPEATED
+                                : FieldDescriptorProto.Label.LABEL_OPTIONAL);
+                switch (field.group(2)) {
+                    case "string" -> descriptor.setType(FieldDescriptorProto.Type.TYPE_STRING);
+                    case "int32" -> descriptor.setType(FieldDescriptorProto.Type.TYPE_INT32);
+                    default -> descriptor.setType(FieldDescriptorProto.Type.TYPE_MESSAGE).setTypeName(field.group(2));
+                }
+                type.addField(descriptor);
+            }
+            file.addMessageType(type);
+        }
+        try {
+            return Descriptors.FileDescriptor.buildFrom(file.build(), new Descriptors.FileDescriptor[0]);
+        } catch (Descriptors.DescriptorValidationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.pokemonapi.unit.index;
+
+import org.example.pokemonapi.index.NameIndex;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.store.ColumnarPokemonStore;
+import org.example.pokemonapi.store.HeapPokemonStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameIndexTest {
+
+    private final List<Pokemon> pokemons = List.of(
+            new Pokemon("charmander", 85, 6, 62),
+            new Pokemon("charmeleon", 190, 11, 142),
+            new Pokemon("charizard", 905, 17, 267),
+            new Pokemon("pikachu", 60, 4, 112),
+            new Pokemon("pichu", 20, 3, 41),
+            new Pokemon("mr-mime", 545, 13, 161),
+            new Pokemon("chansey", 346, 11, 395)
+    );
+
+    private final NameIndex index = NameIndex.build(new HeapPokemonStore(pokemons));
+
+    @Test
+    void search_ShouldCompletePrefixesInAlphabeticalOrder() {
+        assertEquals(List.of("charizard", "charmander", "charmeleon"), names(index.search("char", 10)));
+        assertEquals(List.of("charizard", "charmander"), names(index.search("char", 2)));
+    }
+
+    @Test
+    void search_ShouldFindMisspelledNames() {
+        assertEquals(List.of("charizard"), names(index.search("charzard", 10)));
+        assertEquals(List.of("pikachu"), names(index.search("pikachuu", 10)));
+    }
+
+    @Test
+    void search_ShouldNormalizeCaseAndSpaces() {
+        assertEquals(List.of("mr-mime"), names(index.search("  Mr Mime ", 10)));
+    }
+
+    @Test
+    void search_ShouldListCompletionsBeforeNearMisses() {
+        assertEquals(List.of("pikachu", "pichu"), names(index.search("pikachu", 10)));
+    }
+
+    @Test
+    void search_ShouldNotTolerateTyposInVeryShortQueries() {
+        assertTrue(index.search("xy", 10).isEmpty());
+        assertTrue(index.search("   ", 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldMatchBruteForceOverRandomNames() {
+        Random random = new Random(42);
+        Set<String> names = new LinkedHashSet<>();
+        while (names.size() < 2000) {
+            names.add(randomName(random));
+        }
+        List<Pokemon> dex = names.stream().map(name -> new Pokemon(name, 1, 1, 1)).toList();
+        NameIndex heap = NameIndex.build(new HeapPokemonStore(dex));
+        NameIndex columnar = NameIndex.build(ColumnarPokemonStore.offHeap(dex));
+
+        for (int i = 0; i < 300; i++) {
+            String name = dex.get(random.nextInt(dex.size())).getName();
+            String query = mutate(name.substring(0, 1 + random.nextInt(name.length())), random);
+            List<String> expected = bruteForce(dex, query, 20);
+            assertEquals(expected, names(heap.search(query, 20)), query);
+            assertEquals(expected, names(columnar.search(query, 20)), query);
+        }
+    }
+
+    // Completions alphabetically, then every other name within the allowed edits, closest first.
+    private static List<String> bruteForce(List<Pokemon> dex, String query, int limit) {
+        int maxEdits = query.length() < 3 ? 0 : query.length() <= 5 ? 1 : 2;
+        List<String> names = names(dex);
+        List<String> result = new ArrayList<>(names.stream().filter(name -> name.startsWith(query)).sorted().toList());
+        names.stream()
+                .filter(name -> !name.startsWith(query) && levenshtein(query, name) <= maxEdits)
+                .sorted(Comparator.comparingInt((String name) -> levenshtein(query, name)).thenComparing(name -> name))
+                .forEach(result::add);
+        return result.subList(0, Math.min(limit, result.size()));
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            for (int j = 0; j <= b.length(); j++) {
+                if (i == 0 || j == 0) {
+                    d[i][j] = i + j;
+                } else {
+                    int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                    d[i][j] = Math.min(d[i - 1][j - 1] + cost, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 4 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            name.append((char) ('a' + random.nextInt(6)));
+        }
+        return name.toString();
+    }
+
+    private static String mutate(String query, Random random) {
+        StringBuilder mutated = new StringBuilder(query);
+        for (int edits = random.nextInt(3); edits > 0 && mutated.length() > 1; edits--) {
+            int at = random.nextInt(mutated.length());
+            switch (random.nextInt(3)) {
+                case 0 -> mutated.deleteCharAt(at);
+                case 1 -> mutated.insert(at, (char) ('a' + random.nextInt(6)));
+                default -> mutated.setCharAt(at, (char) ('a' + random.nextInt(6)));
+            }
+        }
+        return mutated.toString();
+    }
+
+    private static List<String> names(List<Pokemon> pokemons) {
+        return pokemons.stream().map(Pokemon::getName).toList();
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.pokemonapi.unit.index;
+
+import org.example.pokemonapi.index.RangeIndex;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.model.PokemonPage;
+import org.example.pokemonapi.model.PokemonQuery;
+import org.example.pokemonapi.store.ColumnarPokemonStore;
+import org.example.pokemonapi.store.HeapPokemonStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeIndexTest {
+
+    private final List<Pokemon> pokemons = List.of(
+            new Pokemon("bulbasaur", 69, 7, 64),
+            new Pokemon("ivysaur", 130, 10, 142),
+            new Pokemon("venusaur", 1000, 20, 263),
+            new Pokemon("charmander", 85, 6, 62),
+            new Pokemon("charmeleon", 190, 11, 142)
+    );
+
+    private final RangeIndex index = RangeIndex.build(new HeapPokemonStore(pokemons));
+
+    @Test
+    void query_ShouldReturnEverythingInDexOrderWithoutPredicates() {
+        PokemonPage page = index.query(new PokemonQuery());
+
+        assertEquals(5, page.getTotal());
+        assertEquals(pokemons, page.getPokemons());
+    }
+
+    @Test
+    void query_ShouldApplyInclusiveBoundsOnEveryAttribute() {
+        PokemonQuery query = new PokemonQuery();
+        query.setMinWeight(85);
+        query.setMaxWeight(190);
+        query.setMinBaseExperience(142);
+
+        PokemonPage page = index.query(query);
+
+        assertEquals(List.of("ivysaur", "charmeleon"), names(page.getPokemons()));
+        assertEquals(2, page.getTotal());
+    }
+
+    @Test
+    void query_ShouldSortDescendingKeepingDexOrderForTiesAndPaginate() {
+        PokemonQuery query = new PokemonQuery();
+        query.setSort("baseExperience");
+        query.setOrder("desc");
+        query.setOffset(1);
+        query.setLimit(2);
+
+        PokemonPage page = index.query(query);
+
+        assertEquals(List.of("ivysaur", "charmeleon"), names(page.getPokemons()));
+        assertEquals(5, page.getTotal());
+        assertEquals(1, page.getOffset());
+    }
+
+    @Test
+    void query_ShouldBeEmptyWhenBoundsAreInverted() {
+        PokemonQuery query = new PokemonQuery();
+        query.setMinHeight(20);
+        query.setMaxHeight(10);
+
+        assertEquals(0, index.query(query).getTotal());
+    }
+
+    @Test
+    void query_ShouldMatchFilterAndSortOverRandomDex() {
+        Random random = new Random(42);
+        List<Pokemon> dex = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            dex.add(new Pokemon("p" + i, random.nextInt(2000), random.nextInt(100), random.nextInt(400)));
+        }
+        RangeIndex heap = RangeIndex.build(new HeapPokemonStore(dex));
+        RangeIndex columnar = RangeIndex.build(ColumnarPokemonStore.offHeap(dex));
+
+        for (int i = 0; i < 200; i++) {
+            PokemonQuery query = new PokemonQuery();
+            int minWeight = random.nextInt(2000);
+            query.setMinWeight(minWeight);
+            query.setMaxWeight(minWeight + random.nextInt(1000));
+            if (random.nextBoolean()) {
+                query.setMinBaseExperience(random.nextInt(400));
+            }
+            if (random.nextBoolean()) {
+                query.setMaxHeight(random.nextInt(100));
+            }
+            query.setSort(List.of("weight", "height", "baseExperience").get(random.nextInt(3)));
+            query.setOrder(random.nextBoolean() ? "asc" : "desc");
+            query.setOffset(random.nextInt(20));
+            query.setLimit(1 + random.nextInt(50));
+
+            List<Pokemon> expected = scan(dex, query);
+            PokemonPage page = heap.query(query);
+            assertEquals(expected.size(), page.getTotal());
+            assertEquals(expected.stream().skip(query.getOffset()).limit(query.getLimit()).toList(), page.getPokemons());
+            assertEquals(page.getPokemons(), columnar.query(query).getPokemons());
+        }
+    }
+
+    private static List<Pokemon> scan(List<Pokemon> dex, PokemonQuery query) {
+        ToIntFunction<Pokemon> key = switch (query.getSort()) {
+            case "weight" -> Pokemon::getWeight;
+            case "height" -> Pokemon::getHeight;
+            default -> Pokemon::getBaseExperience;
+        };
+        Comparator<Pokemon> order = Comparator.comparingInt(key);
+        return dex.stream()
+                .filter(p -> p.getWeight() >= query.getMinWeight() && p.getWeight() <= query.getMaxWeight())
+                .filter(p -> query.getMinBaseExperience() == null || p.getBaseExperience() >= query.getMinBaseExperience())
+                .filter(p -> query.getMaxHeight() == null || p.getHeight() <= query.getMaxHeight())
+                .sorted(query.isDescending() ? order.reversed() : order)
+                .toList();
+    }
+
+    private static List<String> names(List<Pokemon> pokemons) {
+        return pokemons.stream().map(Pokemon::getName).toList();
+    }
+}
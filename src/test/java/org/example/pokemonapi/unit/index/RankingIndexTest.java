@@ -0,0 +1,74 @@
+package org.example.pokemonapi.unit.index;
+
+import org.example.pokemonapi.index.RankingIndex;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.store.ColumnarPokemonStore;
+import org.example.pokemonapi.store.HeapPokemonStore;
+import org.example.pokemonapi.store.PokemonStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankingIndexTest {
+
+    private final List<Pokemon> pokemons = List.of(
+            new Pokemon("bulbasaur", 69, 7, 64),
+            new Pokemon("ivysaur", 130, 10, 142),
+            new Pokemon("venusaur", 1000, 20, 263),
+            new Pokemon("charmander", 85, 6, 62),
+            new Pokemon("charmeleon", 190, 11, 142)
+    );
+
+    private final PokemonStore store = new HeapPokemonStore(pokemons);
+    private final RankingIndex index = RankingIndex.build(store);
+
+    @Test
+    void heaviest_ShouldReturnDescendingWeight() {
+        List<Pokemon> result = index.heaviest(3);
+
+        assertEquals(List.of("venusaur", "charmeleon", "ivysaur"), names(result));
+    }
+
+    @Test
+    void highest_ShouldReturnDescendingHeight() {
+        List<Pokemon> result = index.highest(2);
+
+        assertEquals(List.of("venusaur", "charmeleon"), names(result));
+    }
+
+    @Test
+    void mostExperienced_ShouldKeepDexOrderForTies() {
+        List<Pokemon> result = index.mostExperienced(3);
+
+        assertEquals(List.of("venusaur", "ivysaur", "charmeleon"), names(result));
+    }
+
+    @Test
+    void top_ShouldClampLimitToDatasetSize() {
+        assertEquals(5, index.heaviest(50).size());
+        assertTrue(index.heaviest(0).isEmpty());
+        assertTrue(index.heaviest(-1).isEmpty());
+    }
+
+    @Test
+    void isFor_ShouldMatchOnlyTheSnapshotItWasBuiltFrom() {
+        assertTrue(index.isFor(pokemons));
+        assertFalse(index.isFor(new ArrayList<>(pokemons)));
+    }
+
+    @Test
+    void build_ShouldRankColumnarStoreLikeHeapStore() {
+        RankingIndex columnar = RankingIndex.build(ColumnarPokemonStore.offHeap(pokemons));
+
+        assertEquals(index.heaviest(5), columnar.heaviest(5));
+        assertEquals(index.highest(5), columnar.highest(5));
+        assertEquals(index.mostExperienced(5), columnar.mostExperienced(5));
+    }
+
+    private static List<String> names(List<Pokemon> pokemons) {
+        return pokemons.stream().map(Pokemon::getName).toList();
+    }
+}
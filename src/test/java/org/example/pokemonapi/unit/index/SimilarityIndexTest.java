@@ -0,0 +1,127 @@
+package org.example.pokemonapi.unit.index;
+
+import org.example.pokemonapi.index.SimilarityIndex;
+import org.example.pokemonapi.index.SimilarityIndex.Normalization;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.store.ColumnarPokemonStore;
+import org.example.pokemonapi.store.HeapPokemonStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimilarityIndexTest {
+
+    private final List<Pokemon> pokemons = List.of(
+            new Pokemon("bulbasaur", 69, 7, 64),
+            new Pokemon("ivysaur", 130, 10, 142),
+            new Pokemon("venusaur", 1000, 20, 263),
+            new Pokemon("charmander", 85, 6, 62),
+            new Pokemon("charmeleon", 190, 11, 142),
+            new Pokemon("snorlax", 4600, 21, 189)
+    );
+
+    @Test
+    void nearest_ShouldOrderByRawDistanceAndSkipThePokemonItself() {
+        SimilarityIndex index = SimilarityIndex.build(new HeapPokemonStore(pokemons), Normalization.NONE);
+
+        assertEquals(List.of("charmander", "ivysaur", "charmeleon"), names(index.nearest(pokemons.get(0), 3)));
+    }
+
+    @Test
+    void nearest_ShouldLetNormalizationChangeTheNeighbours() {
+        HeapPokemonStore store = new HeapPokemonStore(pokemons);
+        Pokemon ivysaur = pokemons.get(1);
+
+        assertEquals(List.of("charmeleon", "charmander"),
+                names(SimilarityIndex.build(store, Normalization.NONE).nearest(ivysaur, 2)));
+        assertEquals(List.of("charmeleon", "bulbasaur"),
+                names(SimilarityIndex.build(store, Normalization.Z_SCORE).nearest(ivysaur, 2)));
+    }
+
+    @Test
+    void nearest_ShouldReturnEveryOtherPokemonWhenKExceedsTheDex() {
+        SimilarityIndex index = SimilarityIndex.build(new HeapPokemonStore(pokemons), Normalization.MIN_MAX);
+
+        assertEquals(5, index.nearest(pokemons.get(5), 50).size());
+        assertEquals(6, index.nearest(new Pokemon("mew", 40, 4, 300), 50).size());
+    }
+
+    @Test
+    void normalization_ShouldParseQueryParameterNames() {
+        assertEquals(Normalization.Z_SCORE, Normalization.of("z-score"));
+        assertEquals(Normalization.MIN_MAX, Normalization.of("MIN-MAX"));
+        assertEquals(Normalization.NONE, Normalization.of("none"));
+        assertNull(Normalization.of("log"));
+    }
+
+    @Test
+    void nearest_ShouldMatchBruteForceOverRandomDex() {
+        Random random = new Random(42);
+        List<Pokemon> dex = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            // few distinct values, so ties are common
+            dex.add(new Pokemon("p" + i, random.nextInt(300) * 10, 1 + random.nextInt(30), random.nextInt(60) * 5));
+        }
+        for (Normalization normalization : Normalization.values()) {
+            SimilarityIndex heap = SimilarityIndex.build(new HeapPokemonStore(dex), normalization);
+            SimilarityIndex columnar = SimilarityIndex.build(ColumnarPokemonStore.offHeap(dex), normalization);
+            for (int i = 0; i < 100; i++) {
+                Pokemon query = dex.get(random.nextInt(dex.size()));
+                int k = 1 + random.nextInt(30);
+                List<Pokemon> expected = bruteForce(dex, query, k, normalization);
+                assertEquals(expected, heap.nearest(query, k), normalization + " " + query.getName());
+                assertEquals(expected, columnar.nearest(query, k));
+            }
+        }
+    }
+
+    private static List<Pokemon> bruteForce(List<Pokemon> dex, Pokemon query, int k, Normalization normalization) {
+        List<ToDoubleFunction<Pokemon>> axes = List.of(Pokemon::getWeight, Pokemon::getHeight, Pokemon::getBaseExperience);
+        double[] offset = new double[3];
+        double[] scale = new double[3];
+        for (int axis = 0; axis < 3; axis++) {
+            double[] values = dex.stream().mapToDouble(axes.get(axis)).toArray();
+            double min = IntStream.range(0, values.length).mapToDouble(i -> values[i]).min().orElse(0);
+            double max = IntStream.range(0, values.length).mapToDouble(i -> values[i]).max().orElse(0);
+            double mean = IntStream.range(0, values.length).mapToDouble(i -> values[i]).average().orElse(0);
+            double variance = IntStream.range(0, values.length).mapToDouble(i -> values[i] * values[i]).average().orElse(0) - mean * mean;
+            switch (normalization) {
+                case NONE -> scale[axis] = 1;
+                case MIN_MAX -> {
+                    offset[axis] = min;
+                    scale[axis] = 1.0 / (max - min);
+                }
+                case Z_SCORE -> {
+                    offset[axis] = mean;
+                    scale[axis] = 1 / Math.sqrt(variance);
+                }
+            }
+        }
+        Comparator<Integer> byDistance = Comparator.comparingDouble(row -> {
+            double sum = 0;
+            for (int axis = 0; axis < 3; axis++) {
+                double delta = (axes.get(axis).applyAsDouble(dex.get(row)) - offset[axis]) * scale[axis]
+                        - (axes.get(axis).applyAsDouble(query) - offset[axis]) * scale[axis];
+                sum += delta * delta;
+            }
+            return sum;
+        });
+        return IntStream.range(0, dex.size()).boxed()
+                .filter(row -> !dex.get(row).getName().equals(query.getName()))
+                .sorted(byDistance.thenComparing(row -> row))
+                .limit(k)
+                .map(dex::get)
+                .toList();
+    }
+
+    private static List<String> names(List<Pokemon> pokemons) {
+        return pokemons.stream().map(Pokemon::getName).toList();
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.pokemonapi.unit.index;
+
+import org.example.pokemonapi.index.TypeAggregates;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.model.TypeSummary;
+import org.example.pokemonapi.store.ColumnarPokemonStore;
+import org.example.pokemonapi.store.HeapPokemonStore;
+import org.example.pokemonapi.store.PokemonStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeAggregatesTest {
+
+    private final List<Pokemon> pokemons = List.of(
+            pokemon("bulbasaur", 69, 7, 64, 45, "grass", "poison"),
+            pokemon("ivysaur", 130, 10, 142, 60, "grass", "poison"),
+            pokemon("venusaur", 1000, 20, 263, 80, "grass", "poison"),
+            pokemon("charmander", 85, 6, 62, 39, "fire"),
+            pokemon("charizard", 905, 17, 240, 78, "fire", "flying"),
+            pokemon("pidgey", 18, 3, 50, 40, "normal", "flying")
+    );
+
+    @Test
+    void summaries_ShouldListEveryTypeAlphabeticallyWithItsRanges() {
+        TypeAggregates aggregates = TypeAggregates.build(new HeapPokemonStore(pokemons));
+
+        assertEquals(List.of("fire", "flying", "grass", "normal", "poison"),
+                aggregates.summaries().stream().map(TypeSummary::getType).toList());
+        TypeSummary grass = aggregates.summary("grass");
+        assertEquals(3, grass.getCount());
+        assertEquals(69, grass.getAttributes().get("weight").getMin());
+        assertEquals(1000, grass.getAttributes().get("weight").getMax());
+        assertEquals(61.666, grass.getAttributes().get("hp").getMean(), 0.001);
+        assertFalse(grass.getAttributes().containsKey("attack"));
+        assertNull(aggregates.summary("dragon"));
+    }
+
+    @Test
+    void top_ShouldRankMembersOfOneTypeHighestFirst() {
+        TypeAggregates aggregates = TypeAggregates.build(new HeapPokemonStore(pokemons));
+
+        assertEquals(List.of("charizard", "pidgey"), names(aggregates.top("flying", "weight", 5)));
+        assertEquals(List.of("venusaur", "ivysaur"), names(aggregates.top("poison", "baseExperience", 2)));
+        assertEquals(List.of("charizard", "charmander"), names(aggregates.top("fire", "hp", 5)));
+        assertNull(aggregates.top("dragon", "weight", 5));
+        assertThrows(IllegalArgumentException.class, () -> aggregates.top("fire", "colour", 5));
+    }
+
+    @Test
+    void top_ShouldKeepTiesInDexOrder() {
+        List<Pokemon> tied = List.of(
+                pokemon("a", 10, 1, 1, 1, "water"),
+                pokemon("b", 20, 1, 1, 1, "water"),
+                pokemon("c", 10, 1, 1, 1, "water"));
+
+        assertEquals(List.of("b", "a", "c"), names(TypeAggregates.build(new HeapPokemonStore(tied)).top("water", "weight", 3)));
+    }
+
+    @Test
+    void aggregates_ShouldMatchAScanOnRandomData() {
+        Random random = new Random(23);
+        List<String> types = List.of("bug", "fire", "grass", "water", "rock");
+        List<Pokemon> dex = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String first = types.get(random.nextInt(types.size()));
+            String second = types.get(random.nextInt(types.size()));
+            Map<String, Integer> stats = new LinkedHashMap<>();
+            for (String stat : Pokemon.STATS) {
+                stats.put(stat, 1 + random.nextInt(40));
+            }
+            dex.add(new Pokemon("p" + i, random.nextInt(200), random.nextInt(20), random.nextInt(300),
+                    first.equals(second) ? List.of(first) : List.of(first, second), stats, List.of()));
+        }
+
+        for (PokemonStore store : List.of(new HeapPokemonStore(dex), ColumnarPokemonStore.offHeap(dex))) {
+            TypeAggregates aggregates = TypeAggregates.build(store);
+            for (String type : types) {
+                List<Pokemon> members = dex.stream().filter(p -> p.getTypes().contains(type)).toList();
+                assertEquals(members.size(), aggregates.summary(type).getCount());
+                for (String attribute : TypeAggregates.ATTRIBUTES) {
+                    ToIntFunction<Pokemon> value = attribute(attribute);
+                    List<Pokemon> expected = members.stream()
+                            .sorted(Comparator.comparingInt(value).reversed())
+                            .limit(7)
+                            .toList();
+                    assertEquals(names(expected), names(aggregates.top(type, attribute, 7)), type + " by " + attribute);
+                    TypeSummary.AttributeSummary summary = aggregates.summary(type).getAttributes().get(attribute);
+                    assertEquals(members.stream().mapToInt(value).min().getAsInt(), summary.getMin());
+                    assertEquals(members.stream().mapToInt(value).max().getAsInt(), summary.getMax());
+                    assertEquals(members.stream().mapToInt(value).average().getAsDouble(), summary.getMean(), 1e-9);
+                }
+            }
+        }
+    }
+
+    private static ToIntFunction<Pokemon> attribute(String attribute) {
+        return switch (attribute) {
+            case "weight" -> Pokemon::getWeight;
+            case "height" -> Pokemon::getHeight;
+            case "baseExperience" -> Pokemon::getBaseExperience;
+            default -> pokemon -> pokemon.getStats().get(attribute);
+        };
+    }
+
+    private static Pokemon pokemon(String name, int weight, int height, int baseExperience, int hp, String... types) {
+        return new Pokemon(name, weight, height, baseExperience, List.of(types), Map.of("hp", hp), List.of());
+    }
+
+    private static List<String> names(List<Pokemon> pokemons) {
+        return pokemons.stream().map(Pokemon::getName).toList();
+    }
+}
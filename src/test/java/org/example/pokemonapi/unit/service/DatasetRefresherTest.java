@@ -0,0 +1,69 @@
+package org.example.pokemonapi.unit.service;
+
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.service.DatasetRefresher;
+import org.example.pokemonapi.service.PokemonService;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DatasetRefresherTest {
+
+    private final PokemonService pokemonService = mock(PokemonService.class);
+    private final PokemonProperties properties = new PokemonProperties();
+
+    @Test
+    void configureTasks_ShouldScheduleFixedDelayStartingAfterOneInterval() {
+        properties.getRefresh().setInterval(Duration.ofMinutes(30));
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        new DatasetRefresher(pokemonService, properties).configureTasks(registrar);
+
+        assertEquals(2, registrar.getFixedDelayTaskList().size());
+        assertEquals(Duration.ofMinutes(30), registrar.getFixedDelayTaskList().get(0).getIntervalDuration());
+        assertEquals(Duration.ofMinutes(30), registrar.getFixedDelayTaskList().get(0).getInitialDelayDuration());
+        assertEquals(Duration.ofMinutes(1), registrar.getFixedDelayTaskList().get(1).getIntervalDuration());
+        assertTrue(registrar.getCronTaskList().isEmpty());
+    }
+
+    @Test
+    void configureTasks_ShouldPreferCronWhenSet() {
+        properties.getRefresh().setCron("0 0 4 * * *");
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        new DatasetRefresher(pokemonService, properties).configureTasks(registrar);
+
+        assertEquals("0 0 4 * * *", registrar.getCronTaskList().get(0).getExpression());
+        assertEquals(1, registrar.getFixedDelayTaskList().size());
+        assertEquals(Duration.ofMinutes(1), registrar.getFixedDelayTaskList().get(0).getIntervalDuration());
+    }
+
+    @Test
+    void completePartial_ShouldRefreshOnlyAPartialDataset() {
+        DatasetRefresher refresher = new DatasetRefresher(pokemonService, properties);
+        when(pokemonService.isDatasetPartial()).thenReturn(false, true);
+
+        refresher.completePartial();
+        refresher.completePartial();
+
+        verify(pokemonService, times(1)).refresh();
+    }
+
+    @Test
+    void refresh_ShouldSwallowFailuresSoLaterRunsStillHappen() {
+        when(pokemonService.refresh())
+                .thenThrow(new RuntimeException("Failed to fetch Pokémon list"))
+                .thenReturn(List.of(new Pokemon("pikachu", 60, 4, 112)));
+        DatasetRefresher refresher = new DatasetRefresher(pokemonService, properties);
+
+        assertDoesNotThrow(refresher::refresh);
+        assertDoesNotThrow(refresher::refresh);
+        verify(pokemonService, times(2)).refresh();
+    }
+}
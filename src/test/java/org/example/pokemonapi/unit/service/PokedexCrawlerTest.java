@@ -0,0 +1,163 @@
+package org.example.pokemonapi.unit.service;
+
+import org.example.pokemonapi.exception.PokemonNotFoundException;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.service.PokedexCrawler;
+import org.example.pokemonapi.service.PokemonService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PokedexCrawlerTest {
+
+    private static final String URL = "https://pokeapi.co/api/v2/pokemon/";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final Set<String> failing = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger detailCalls = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final Function<String, Pokemon> detailFetcher = name -> {
+        detailCalls.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(2);
+            if (failing.contains(name)) {
+                throw new ResourceAccessException("timeout");
+            }
+            if (name.equals("missingno")) {
+                throw new PokemonNotFoundException("not found");
+            }
+            return new Pokemon(name, name.length(), 1, 1);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        stubPage(0, "bulbasaur", "ivysaur");
+        stubPage(2, "venusaur", "charmander");
+        stubPage(4, "charmeleon");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void crawl_ShouldFollowAllPagesInDexOrder() {
+        PokedexCrawler crawler = new PokedexCrawler(restTemplate, URL, detailFetcher, executor, 2, 4);
+
+        PokedexCrawler.CrawlResult result = crawler.crawl();
+
+        assertTrue(result.isComplete());
+        assertEquals(List.of("bulbasaur", "ivysaur", "venusaur", "charmander", "charmeleon"),
+                result.getPokemons().stream().map(Pokemon::getName).toList());
+    }
+
+    @Test
+    void crawl_ShouldRespectConcurrencyBudget() {
+        for (int offset = 0; offset < 40; offset += 10) {
+            String[] names = new String[10];
+            for (int i = 0; i < 10; i++) {
+                names[i] = "poke" + (offset + i);
+            }
+            stubPage(offset, 10, 40, names);
+        }
+        PokedexCrawler crawler = new PokedexCrawler(restTemplate, URL, detailFetcher, executor, 10, 2);
+
+        PokedexCrawler.CrawlResult result = crawler.crawl();
+
+        assertEquals(40, result.getPokemons().size());
+        assertTrue(maxInFlight.get() <= 2, "max in flight was " + maxInFlight.get());
+    }
+
+    @Test
+    void crawl_ShouldResumeAfterPageFailure() {
+        when(restTemplate.getForObject(URL + "?offset=2&limit=2", PokemonService.PokemonListResponse.class))
+                .thenThrow(new ResourceAccessException("timeout"))
+                .thenReturn(page(2, "venusaur", "charmander"));
+        PokedexCrawler crawler = new PokedexCrawler(restTemplate, URL, detailFetcher, executor, 2, 4);
+
+        PokedexCrawler.CrawlResult partial = crawler.crawl();
+        assertFalse(partial.isComplete());
+        assertEquals(3, partial.getPokemons().size());
+
+        PokedexCrawler.CrawlResult resumed = crawler.crawl();
+        assertTrue(resumed.isComplete());
+        assertEquals(5, resumed.getPokemons().size());
+        assertEquals(5, detailCalls.get());
+        verify(restTemplate, times(1)).getForObject(URL + "?offset=0&limit=2", PokemonService.PokemonListResponse.class);
+    }
+
+    @Test
+    void crawl_ShouldRetryOnlyFailedDetailsWhenResuming() {
+        failing.add("venusaur");
+        PokedexCrawler crawler = new PokedexCrawler(restTemplate, URL, detailFetcher, executor, 2, 4);
+
+        assertFalse(crawler.crawl().isComplete());
+
+        failing.clear();
+        PokedexCrawler.CrawlResult resumed = crawler.crawl();
+
+        assertTrue(resumed.isComplete());
+        assertEquals(6, detailCalls.get());
+    }
+
+    @Test
+    void crawl_ShouldSkipPokemonThatNoLongerExist() {
+        stubPage(4, "missingno");
+        PokedexCrawler crawler = new PokedexCrawler(restTemplate, URL, detailFetcher, executor, 2, 4);
+
+        PokedexCrawler.CrawlResult result = crawler.crawl();
+
+        assertTrue(result.isComplete());
+        assertEquals(4, result.getPokemons().size());
+    }
+
+    private void stubPage(int offset, String... names) {
+        stubPage(offset, 2, 5, names);
+    }
+
+    private void stubPage(int offset, int limit, int count, String... names) {
+        when(restTemplate.getForObject(URL + "?offset=" + offset + "&limit=" + limit, PokemonService.PokemonListResponse.class))
+                .thenReturn(page(offset, limit, count, names));
+    }
+
+    private static PokemonService.PokemonListResponse page(int offset, String... names) {
+        return page(offset, 2, 5, names);
+    }
+
+    private static PokemonService.PokemonListResponse page(int offset, int limit, int count, String... names) {
+        String next = offset + limit < count ? URL + "?offset=" + (offset + limit) + "&limit=" + limit : null;
+        List<PokemonService.PokemonResult> results = Arrays.stream(names)
+                .map(name -> new PokemonService.PokemonResult(name, URL + name))
+                .toList();
+        return new PokemonService.PokemonListResponse(count, next, results);
+    }
+}
@@ -1,17 +1,33 @@
 package org.example.pokemonapi.unit.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.pokemonapi.cache.PokemonCache;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.exception.PokeApiUnavailableException;
 import org.example.pokemonapi.exception.PokemonNotFoundException;
 import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.model.PokemonBatch;
 import org.example.pokemonapi.service.PokemonService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -46,10 +62,35 @@ class PokemonServiceTest {
 
     @Test
     void testGetPokemon_notFound() {
-        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/alea_pokemon", PokemonService.PokemonResponse.class))
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/alea-pokemon", PokemonService.PokemonResponse.class))
                 .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
 
-        assertThrows(PokemonNotFoundException.class, () -> pokemonService.getPokemon("alea_pokemon"));
+        assertThrows(PokemonNotFoundException.class, () -> pokemonService.getPokemon("alea-pokemon"));
+    }
+
+    @Test
+    void testGetPokemon_cachedByNameAndId() {
+        PokemonService.PokemonResponse mockResponse = new PokemonService.PokemonResponse("pikachu", 60, 40, 112);
+        mockResponse.id = 25;
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/pikachu", PokemonService.PokemonResponse.class))
+                .thenReturn(mockResponse);
+
+        Pokemon first = pokemonService.getPokemon("Pikachu");
+        Pokemon byId = pokemonService.getPokemon("25");
+
+        assertSame(first, byId);
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(PokemonService.PokemonResponse.class));
+    }
+
+    @Test
+    void testGetPokemon_notFoundIsCached() {
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/charzard", PokemonService.PokemonResponse.class))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        assertThrows(PokemonNotFoundException.class, () -> pokemonService.getPokemon("charzard"));
+        assertThrows(PokemonNotFoundException.class, () -> pokemonService.getPokemon("charzard"));
+
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(PokemonService.PokemonResponse.class));
     }
 
     @Test
@@ -61,7 +102,7 @@ class PokemonServiceTest {
 
         PokemonService.PokemonListResponse listResponse = new PokemonService.PokemonListResponse(results);
 
-        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/", PokemonService.PokemonListResponse.class))
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/?offset=0&limit=200", PokemonService.PokemonListResponse.class))
                 .thenReturn(listResponse);
 
         when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/pikachu", PokemonService.PokemonResponse.class))
@@ -75,6 +116,379 @@ class PokemonServiceTest {
         assertTrue(pokemons.stream().anyMatch(p -> p.getName().equals("pikachu")));
     }
 
+    @Test
+    void testGetAllPokemons_loadedOnce() {
+        PokemonService.PokemonListResponse listResponse = new PokemonService.PokemonListResponse(
+                List.of(new PokemonService.PokemonResult("pikachu", ""))
+        );
+        when(restTemplate.getForObject(anyString(), eq(PokemonService.PokemonListResponse.class)))
+                .thenReturn(listResponse);
+        when(restTemplate.getForObject(contains("pikachu"), eq(PokemonService.PokemonResponse.class)))
+                .thenReturn(new PokemonService.PokemonResponse("pikachu", 60, 40, 100));
+
+        List<Pokemon> first = pokemonService.getAllPokemons();
+        List<Pokemon> second = pokemonService.getAllPokemons();
+
+        assertSame(first, second);
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(PokemonService.PokemonListResponse.class));
+    }
+
+    @Test
+    void testBindTo_publishesDatasetAndCrawlMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        pokemonService.bindTo(registry);
+        when(restTemplate.getForObject(anyString(), eq(PokemonService.PokemonListResponse.class)))
+                .thenReturn(new PokemonService.PokemonListResponse(List.of(new PokemonService.PokemonResult("pikachu", ""))));
+        when(restTemplate.getForObject(contains("pikachu"), eq(PokemonService.PokemonResponse.class)))
+                .thenReturn(new PokemonService.PokemonResponse("pikachu", 60, 40, 100));
+
+        assertTrue(Double.isNaN(registry.get("pokemon.dataset.age").timeGauge().value()));
+        pokemonService.getAllPokemons();
+        pokemonService.getAllPokemons();
+
+        assertEquals(1, registry.get("pokemon.dataset.size").gauge().value());
+        assertTrue(registry.get("pokemon.dataset.age").timeGauge().value() >= 0);
+        assertEquals(1, registry.get("pokemon.dataset.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("pokemon.dataset.requests").tag("result", "wait").functionCounter().count());
+        assertEquals(1, registry.get("pokemon.crawl").tag("outcome", "complete").timer().count());
+    }
+
+    @Test
+    void testRestore_servesSnapshotWithoutCrawling() {
+        List<Pokemon> snapshot = List.of(new Pokemon("snorlax", 4600, 21, 189), new Pokemon("pikachu", 60, 4, 112));
+
+        pokemonService.restore(snapshot);
+
+        assertEquals(snapshot, pokemonService.getAllPokemons());
+        assertEquals("snorlax", pokemonService.getHeaviestPokemons(1).get(0).getName());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void testGetAllPokemons_installsPartialDatasetUntilARefreshCompletesIt() {
+        when(restTemplate.getForObject(anyString(), eq(PokemonService.PokemonListResponse.class)))
+                .thenReturn(new PokemonService.PokemonListResponse(List.of(
+                        new PokemonService.PokemonResult("pikachu", ""), new PokemonService.PokemonResult("raichu", ""))));
+        when(restTemplate.getForObject(contains("pikachu"), eq(PokemonService.PokemonResponse.class)))
+                .thenReturn(new PokemonService.PokemonResponse("pikachu", 60, 4, 112));
+        when(restTemplate.getForObject(contains("raichu"), eq(PokemonService.PokemonResponse.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST))
+                .thenReturn(new PokemonService.PokemonResponse("raichu", 300, 8, 218));
+        List<List<Pokemon>> loaded = new ArrayList<>();
+        pokemonService.onDatasetLoaded(loaded::add);
+
+        List<Pokemon> partial = pokemonService.getAllPokemons();
+        long partialVersion = pokemonService.datasetVersion();
+
+        assertEquals(List.of("pikachu"), partial.stream().map(Pokemon::getName).toList());
+        assertSame(partial, pokemonService.getAllPokemons());
+        assertEquals("pikachu", pokemonService.getHeaviestPokemons(1).get(0).getName());
+        assertTrue(pokemonService.isDatasetPartial());
+        assertTrue(loaded.isEmpty());
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(PokemonService.PokemonListResponse.class));
+
+        List<Pokemon> completed = pokemonService.refresh();
+
+        assertEquals(List.of("pikachu", "raichu"), completed.stream().map(Pokemon::getName).toList());
+        assertFalse(pokemonService.isDatasetPartial());
+        assertNotEquals(partialVersion, pokemonService.datasetVersion());
+        assertEquals(List.of(completed), loaded);
+    }
+
+    @Test
+    void testRefresh_keepsCurrentDatasetWhenCrawlFails() {
+        List<Pokemon> snapshot = List.of(new Pokemon("snorlax", 4600, 21, 189));
+        pokemonService.restore(snapshot);
+        when(restTemplate.getForObject(anyString(), eq(PokemonService.PokemonListResponse.class)))
+                .thenThrow(new ResourceAccessException("offline"));
+
+        assertThrows(RuntimeException.class, () -> pokemonService.refresh());
+        assertSame(snapshot.get(0), pokemonService.getAllPokemons().get(0));
+    }
+
+    @Test
+    void testRefresh_replacesDatasetAndNotifiesListeners() {
+        pokemonService.restore(List.of(new Pokemon("snorlax", 4600, 21, 189)));
+        when(restTemplate.getForObject(anyString(), eq(PokemonService.PokemonListResponse.class)))
+                .thenReturn(new PokemonService.PokemonListResponse(List.of(new PokemonService.PokemonResult("pikachu", ""))));
+        when(restTemplate.getForObject(contains("pikachu"), eq(PokemonService.PokemonResponse.class)))
+                .thenReturn(new PokemonService.PokemonResponse("pikachu", 60, 4, 112));
+        List<List<Pokemon>> loaded = new ArrayList<>();
+        pokemonService.onDatasetLoaded(loaded::add);
+
+        List<Pokemon> refreshed = pokemonService.refresh();
+
+        assertEquals("pikachu", refreshed.get(0).getName());
+        assertSame(refreshed, pokemonService.getAllPokemons());
+        assertEquals(List.of(refreshed), loaded);
+    }
+
+    @Test
+    void testRefresh_picksUpNewSpeciesAndServesOldDatasetUntilSwap() {
+        when(restTemplate.getForObject(anyString(), eq(PokemonService.PokemonListResponse.class)))
+                .thenReturn(new PokemonService.PokemonListResponse(List.of(new PokemonService.PokemonResult("pikachu", ""))))
+                .thenReturn(new PokemonService.PokemonListResponse(List.of(
+                        new PokemonService.PokemonResult("pikachu", ""), new PokemonService.PokemonResult("raichu", ""))));
+        when(restTemplate.getForObject(contains("pikachu"), eq(PokemonService.PokemonResponse.class)))
+                .thenReturn(new PokemonService.PokemonResponse("pikachu", 60, 4, 112));
+        when(restTemplate.getForObject(contains("raichu"), eq(PokemonService.PokemonResponse.class)))
+                .thenReturn(new PokemonService.PokemonResponse("raichu", 300, 8, 218));
+        List<Pokemon> before = pokemonService.getAllPokemons();
+
+        List<Pokemon> after = pokemonService.refresh();
+
+        assertEquals(1, before.size());
+        assertEquals(List.of("pikachu", "raichu"), after.stream().map(Pokemon::getName).toList());
+        assertSame(after, pokemonService.getAllPokemons());
+        assertEquals("raichu", pokemonService.getHeaviestPokemons(1).get(0).getName());
+    }
+
+    // The refresh interval defaults to the detail TTL, so reusing cached details would miss every change.
+    @Test
+    void testRefresh_revalidatesCachedDetailsBeforeTheirTtlEnds() {
+        PokemonService.PokemonResponse before = new PokemonService.PokemonResponse("pikachu", 60, 4, 112);
+        before.etag = "\"v1\"";
+        PokemonService.PokemonResponse after = new PokemonService.PokemonResponse("pikachu", 65, 4, 112);
+        after.etag = "\"v2\"";
+        when(restTemplate.getForObject(anyString(), eq(PokemonService.PokemonListResponse.class)))
+                .thenReturn(new PokemonService.PokemonListResponse(List.of(new PokemonService.PokemonResult("pikachu", ""))));
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/pikachu", PokemonService.PokemonResponse.class))
+                .thenReturn(before);
+        ArgumentCaptor<HttpEntity<?>> request = ArgumentCaptor.forClass(HttpEntity.class);
+        when(restTemplate.exchange(eq("https://pokeapi.co/api/v2/pokemon/pikachu"), eq(HttpMethod.GET), request.capture(),
+                eq(PokemonService.PokemonResponse.class)))
+                .thenReturn(ResponseEntity.ok(after));
+        pokemonService.getAllPokemons();
+
+        List<Pokemon> refreshed = pokemonService.refresh();
+
+        assertEquals(65, refreshed.get(0).getWeight());
+        assertEquals(65, pokemonService.getPokemon("pikachu").getWeight());
+        assertEquals(List.of("\"v1\""), request.getValue().getHeaders().getIfNoneMatch());
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(PokemonService.PokemonResponse.class));
+    }
+
+    @Test
+    void testGetPokemon_revalidatesExpiredEntryWithConditionalRequest() {
+        AtomicLong nanos = new AtomicLong();
+        PokemonProperties properties = new PokemonProperties();
+        PokemonService service = new PokemonService(restTemplate, new PokemonCache(properties, nanos::get), properties, Runnable::run);
+        PokemonService.PokemonResponse pikachu = new PokemonService.PokemonResponse("pikachu", 60, 4, 112);
+        pikachu.etag = "\"v1\"";
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/pikachu", PokemonService.PokemonResponse.class))
+                .thenReturn(pikachu);
+        ArgumentCaptor<HttpEntity<?>> request = ArgumentCaptor.forClass(HttpEntity.class);
+        when(restTemplate.exchange(eq("https://pokeapi.co/api/v2/pokemon/pikachu"), eq(HttpMethod.GET), request.capture(),
+                eq(PokemonService.PokemonResponse.class)))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        Pokemon first = service.getPokemon("pikachu");
+
+        nanos.addAndGet(properties.getCache().getTtl().plusMinutes(1).toNanos());
+        Pokemon revalidated = service.getPokemon("pikachu");
+        Pokemon cached = service.getPokemon("pikachu");
+
+        assertSame(first, revalidated);
+        assertSame(first, cached);
+        assertEquals(List.of("\"v1\""), request.getValue().getHeaders().getIfNoneMatch());
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(PokemonService.PokemonResponse.class));
+        verify(restTemplate, times(1)).exchange(anyString(), any(), any(), eq(PokemonService.PokemonResponse.class));
+    }
+
+    @Test
+    void testGetPokemon_replacesEntryWhenRevalidationReturnsNewBody() {
+        AtomicLong nanos = new AtomicLong();
+        PokemonProperties properties = new PokemonProperties();
+        PokemonService service = new PokemonService(restTemplate, new PokemonCache(properties, nanos::get), properties, Runnable::run);
+        PokemonService.PokemonResponse before = new PokemonService.PokemonResponse("pikachu", 60, 4, 112);
+        before.etag = "\"v1\"";
+        PokemonService.PokemonResponse after = new PokemonService.PokemonResponse("pikachu", 65, 4, 112);
+        after.etag = "\"v2\"";
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/pikachu", PokemonService.PokemonResponse.class))
+                .thenReturn(before);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(PokemonService.PokemonResponse.class)))
+                .thenReturn(ResponseEntity.ok(after));
+        service.getPokemon("pikachu");
+
+        nanos.addAndGet(properties.getCache().getTtl().plusMinutes(1).toNanos());
+
+        assertEquals(65, service.getPokemon("pikachu").getWeight());
+    }
+
+    @Test
+    void testGetPokemon_servesLastKnownWhenPokeApiIsUnavailable() {
+        AtomicLong nanos = new AtomicLong();
+        PokemonProperties properties = new PokemonProperties();
+        PokemonService service = new PokemonService(restTemplate, new PokemonCache(properties, nanos::get), properties, Runnable::run);
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/pikachu", PokemonService.PokemonResponse.class))
+                .thenReturn(new PokemonService.PokemonResponse("pikachu", 60, 4, 112))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+        Pokemon first = service.getPokemon("pikachu");
+
+        nanos.addAndGet(properties.getCache().getTtl().plusMinutes(1).toNanos());
+
+        assertSame(first, service.getPokemon("pikachu"));
+        verify(restTemplate, times(2)).getForObject(anyString(), eq(PokemonService.PokemonResponse.class));
+    }
+
+    @Test
+    void testGetPokemon_unavailableWhenPokeApiFailsAndNothingIsCached() {
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/pikachu", PokemonService.PokemonResponse.class))
+                .thenThrow(new ResourceAccessException("Circuit breaker for pokeapi.co is open"));
+
+        assertThrows(PokeApiUnavailableException.class, () -> pokemonService.getPokemon("pikachu"));
+    }
+
+    @Test
+    void testPokemonVersion_comesFromTheCachedEntry() {
+        PokemonService.PokemonResponse pikachu = new PokemonService.PokemonResponse("pikachu", 60, 4, 112);
+        pikachu.id = 25;
+        pikachu.etag = "\"v1\"";
+        when(restTemplate.getForObject(contains("pikachu"), eq(PokemonService.PokemonResponse.class))).thenReturn(pikachu);
+        when(restTemplate.getForObject(contains("raichu"), eq(PokemonService.PokemonResponse.class)))
+                .thenReturn(new PokemonService.PokemonResponse("raichu", 300, 8, 218));
+        assertNull(pokemonService.pokemonVersion("pikachu"));
+
+        pokemonService.getPokemon("pikachu");
+        pokemonService.getPokemon("raichu");
+
+        assertEquals("25-" + Integer.toHexString("\"v1\"".hashCode()), pokemonService.pokemonVersion("Pikachu"));
+        assertEquals(pokemonService.pokemonVersion("pikachu"), pokemonService.pokemonVersion("25"));
+        PokemonService otherInstance = new PokemonService(restTemplate);
+        otherInstance.getPokemon("raichu");
+        assertNotNull(pokemonService.pokemonVersion("raichu"));
+        assertEquals(pokemonService.pokemonVersion("raichu"), otherInstance.pokemonVersion("raichu"));
+    }
+
+    @Test
+    void testDatasetVersion_dependsOnlyOnContent() {
+        PokemonService other = new PokemonService(restTemplate);
+        pokemonService.restore(List.of(new Pokemon("snorlax", 4600, 21, 189), new Pokemon("pikachu", 60, 4, 112)));
+        other.restore(List.of(new Pokemon("snorlax", 4600, 21, 189), new Pokemon("pikachu", 60, 4, 112)));
+        PokemonService changed = new PokemonService(restTemplate);
+        changed.restore(List.of(new Pokemon("snorlax", 4600, 21, 189), new Pokemon("pikachu", 61, 4, 112)));
+
+        assertEquals(pokemonService.datasetVersion(), other.datasetVersion());
+        assertNotEquals(pokemonService.datasetVersion(), changed.datasetVersion());
+    }
+
+    @Test
+    void testGetPokemons_reportsErrorsPerKeyAndFetchesOnlyMisses() {
+        PokemonService.PokemonResponse pikachu = new PokemonService.PokemonResponse("pikachu", 60, 40, 112);
+        pikachu.id = 25;
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/pikachu", PokemonService.PokemonResponse.class))
+                .thenReturn(pikachu);
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/bulbasaur", PokemonService.PokemonResponse.class))
+                .thenReturn(new PokemonService.PokemonResponse("bulbasaur", 69, 7, 64));
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/missingno", PokemonService.PokemonResponse.class))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        pokemonService.getPokemon("pikachu");
+
+        PokemonBatch batch = pokemonService.getPokemons(List.of("25", "missingno", "bulbasaur", "25"));
+
+        assertEquals(List.of("25", "bulbasaur"), new ArrayList<>(batch.getPokemons().keySet()));
+        assertEquals("pikachu", batch.getPokemons().get("25").getName());
+        assertEquals(Map.of("missingno", PokemonService.NOT_FOUND), batch.getErrors());
+        verify(restTemplate, times(1)).getForObject("https://pokeapi.co/api/v2/pokemon/pikachu", PokemonService.PokemonResponse.class);
+        verify(restTemplate, never()).getForObject("https://pokeapi.co/api/v2/pokemon/25", PokemonService.PokemonResponse.class);
+    }
+
+    @Test
+    void testGetPokemon_countsOneMissPerColdFetch() {
+        PokemonProperties properties = new PokemonProperties();
+        PokemonCache cache = new PokemonCache(properties);
+        PokemonService service = new PokemonService(restTemplate, cache, properties, Runnable::run);
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/pikachu", PokemonService.PokemonResponse.class))
+                .thenReturn(new PokemonService.PokemonResponse("pikachu", 60, 40, 112));
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/bulbasaur", PokemonService.PokemonResponse.class))
+                .thenReturn(new PokemonService.PokemonResponse("bulbasaur", 69, 7, 64));
+
+        service.getPokemon("pikachu");
+        service.getPokemons(List.of("bulbasaur", "pikachu"));
+        service.getPokemon("bulbasaur");
+
+        assertEquals(2, cache.stats().getMisses());
+        assertEquals(2, cache.stats().getHits());
+    }
+
+    @Test
+    void testGetPokemons_rejectsKeysThatAreNotNamesOrIdsWithoutCallingUpstream() {
+        PokemonBatch batch = pokemonService.getPokemons(Arrays.asList("", null, "{x}", "../25", "mr mime"));
+
+        assertEquals(List.of("", "null", "{x}", "../25", "mr mime"), new ArrayList<>(batch.getErrors().keySet()));
+        assertTrue(batch.getErrors().values().stream().allMatch(PokemonService.INVALID::equals));
+        assertTrue(batch.getPokemons().isEmpty());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void testGetPokemons_reportsUpstreamFailuresWithoutTheirMessages() {
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/pikachu", PokemonService.PokemonResponse.class))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE, "upstream detail"));
+
+        PokemonBatch batch = pokemonService.getPokemons(List.of("pikachu"));
+
+        assertEquals(Map.of("pikachu", PokemonService.UNAVAILABLE), batch.getErrors());
+    }
+
+    @Test
+    void testStreamPokemons_fetchesOnlyRequestedRangeInOrder() {
+        List<PokemonService.PokemonResult> results = Arrays.asList(
+                new PokemonService.PokemonResult("ivysaur", ""),
+                new PokemonService.PokemonResult("venusaur", "")
+        );
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/?offset=1&limit=2", PokemonService.PokemonListResponse.class))
+                .thenReturn(new PokemonService.PokemonListResponse(3, null, results));
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/ivysaur", PokemonService.PokemonResponse.class))
+                .thenReturn(new PokemonService.PokemonResponse("ivysaur", 130, 10, 142));
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/venusaur", PokemonService.PokemonResponse.class))
+                .thenReturn(new PokemonService.PokemonResponse("venusaur", 1000, 20, 263));
+
+        List<String> streamed = new ArrayList<>();
+        pokemonService.streamPokemons(1, 2, pokemon -> streamed.add(pokemon.getName()));
+
+        assertEquals(List.of("ivysaur", "venusaur"), streamed);
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(PokemonService.PokemonListResponse.class));
+    }
+
+    @Test
+    void testStreamPokemons_emitsNothingForZeroLimitWithoutCallingUpstream() {
+        List<Pokemon> streamed = new ArrayList<>();
+
+        pokemonService.streamPokemons(0, 0, streamed::add);
+
+        assertTrue(streamed.isEmpty());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void testStreamPokemons_emitsFirstPageBeforeNextPageArrives() {
+        PokemonProperties properties = new PokemonProperties();
+        properties.getCrawl().setPageSize(1);
+        PokemonService service = new PokemonService(restTemplate, new PokemonCache(properties), properties,
+                new SimpleAsyncTaskExecutor());
+        CountDownLatch firstEmitted = new CountDownLatch(1);
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/?offset=0&limit=1", PokemonService.PokemonListResponse.class))
+                .thenReturn(new PokemonService.PokemonListResponse(2, "next",
+                        List.of(new PokemonService.PokemonResult("bulbasaur", ""))));
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/?offset=1&limit=1", PokemonService.PokemonListResponse.class))
+                .thenAnswer(invocation -> {
+                    assertTrue(firstEmitted.await(5, TimeUnit.SECONDS), "second page was needed before the first Pokémon");
+                    return new PokemonService.PokemonListResponse(2, null, List.of(new PokemonService.PokemonResult("ivysaur", "")));
+                });
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/bulbasaur", PokemonService.PokemonResponse.class))
+                .thenReturn(new PokemonService.PokemonResponse("bulbasaur", 69, 7, 64));
+        when(restTemplate.getForObject("https://pokeapi.co/api/v2/pokemon/ivysaur", PokemonService.PokemonResponse.class))
+                .thenReturn(new PokemonService.PokemonResponse("ivysaur", 130, 10, 142));
+
+        List<String> streamed = new ArrayList<>();
+        service.streamPokemons(0, Integer.MAX_VALUE, pokemon -> {
+            streamed.add(pokemon.getName());
+            firstEmitted.countDown();
+        });
+
+        assertEquals(List.of("bulbasaur", "ivysaur"), streamed);
+    }
+
     @Test
     void testGetHeaviestPokemons() {
         Pokemon p1 = new Pokemon("poke1", 150, 10, 50);
@@ -0,0 +1,184 @@
+package org.example.pokemonapi.unit.service;
+
+import org.example.pokemonapi.cache.PokemonCache;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.exception.PokemonNotFoundException;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.service.ReactivePokemonService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactivePokemonServiceTest {
+
+    private final Map<String, String> responses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final AtomicLong nanos = new AtomicLong();
+    private ReactivePokemonService pokemonService;
+
+    @BeforeEach
+    void setUp() {
+        PokemonProperties properties = new PokemonProperties();
+        properties.getCrawl().setPageSize(2);
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            String url = request.url().toString();
+            calls.computeIfAbsent(url, k -> new AtomicInteger()).incrementAndGet();
+            String body = responses.get(url);
+            if (body == null) {
+                return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(body)
+                    .build());
+        });
+        pokemonService = new ReactivePokemonService(builder, new PokemonCache(properties), properties, nanos::get);
+
+        page(0, 3, "bulbasaur", "ivysaur");
+        page(2, 3, "venusaur");
+        detail("bulbasaur", 1, 69, 7, 64);
+        detail("ivysaur", 2, 130, 10, 142);
+        detail("venusaur", 3, 1000, 20, 263);
+    }
+
+    @Test
+    void getPokemon_ShouldReturnPokemonAndCacheIt() {
+        StepVerifier.create(pokemonService.getPokemon("Bulbasaur"))
+                .assertNext(pokemon -> assertEquals(new Pokemon("bulbasaur", 69, 7, 64), pokemon))
+                .verifyComplete();
+        StepVerifier.create(pokemonService.getPokemon("1"))
+                .assertNext(pokemon -> assertEquals("bulbasaur", pokemon.getName()))
+                .verifyComplete();
+
+        assertEquals(1, calls.get("https://pokeapi.co/api/v2/pokemon/bulbasaur").get());
+    }
+
+    @Test
+    void getPokemon_ShouldFailWithNotFound() {
+        StepVerifier.create(pokemonService.getPokemon("charzard"))
+                .expectError(PokemonNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void getPokemon_ShouldRejectInvalidKeysWithoutCallingUpstream() {
+        for (String key : List.of("", "  ", "mr mime", "../berry")) {
+            StepVerifier.create(pokemonService.getPokemon(key))
+                    .expectError(PokemonNotFoundException.class)
+                    .verify();
+        }
+
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    void getPokemon_ShouldShareConcurrentFetches() {
+        Mono<Pokemon> first = pokemonService.getPokemon("ivysaur");
+        Mono<Pokemon> second = pokemonService.getPokemon("ivysaur");
+
+        StepVerifier.create(Mono.zip(first, second))
+                .assertNext(pair -> assertEquals(pair.getT1(), pair.getT2()))
+                .verifyComplete();
+        assertEquals(1, calls.get("https://pokeapi.co/api/v2/pokemon/ivysaur").get());
+    }
+
+    @Test
+    void getAllPokemons_ShouldCrawlAllPagesInDexOrder() {
+        StepVerifier.create(pokemonService.getAllPokemons().map(Pokemon::getName))
+                .expectNext("bulbasaur", "ivysaur", "venusaur")
+                .verifyComplete();
+        StepVerifier.create(pokemonService.getAllPokemons())
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertEquals(1, calls.get("https://pokeapi.co/api/v2/pokemon/?offset=0&limit=2").get());
+    }
+
+    @Test
+    void streamPokemons_ShouldFetchOnlyRequestedRange() {
+        responses.put("https://pokeapi.co/api/v2/pokemon/?offset=1&limit=2",
+                "{\"count\":3,\"next\":null,\"results\":[{\"name\":\"ivysaur\",\"url\":\"\"},{\"name\":\"venusaur\",\"url\":\"\"}]}");
+
+        StepVerifier.create(pokemonService.streamPokemons(1, 2).map(Pokemon::getName))
+                .expectNext("ivysaur", "venusaur")
+                .verifyComplete();
+
+        assertNull(calls.get("https://pokeapi.co/api/v2/pokemon/bulbasaur"));
+    }
+
+    @Test
+    void getHeaviestPokemons_ShouldReturnDescendingWeight() {
+        StepVerifier.create(pokemonService.getHeaviestPokemons(2).map(Pokemon::getName))
+                .expectNext("venusaur", "ivysaur")
+                .verifyComplete();
+    }
+
+    @Test
+    void getAllPokemons_ShouldRetryCrawlAfterPartialFailure() {
+        responses.put("https://pokeapi.co/api/v2/pokemon/venusaur", "{not json");
+
+        StepVerifier.create(pokemonService.getAllPokemons())
+                .expectNextCount(2)
+                .verifyComplete();
+
+        detail("venusaur", 3, 1000, 20, 263);
+
+        StepVerifier.create(pokemonService.getAllPokemons())
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    @Test
+    void getHeaviestPokemons_ShouldServeStaleSnapshotWhileRefetchingEveryDetail() throws InterruptedException {
+        assertEquals("venusaur", heaviest());
+        detail("bulbasaur", 1, 2000, 7, 64);
+        nanos.addAndGet(new PokemonProperties().getRefresh().getInterval().toNanos());
+
+        assertEquals("venusaur", heaviest());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"bulbasaur".equals(heaviest()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals("bulbasaur", heaviest());
+        assertEquals(2, calls.get("https://pokeapi.co/api/v2/pokemon/bulbasaur").get());
+    }
+
+    private String heaviest() {
+        return pokemonService.getHeaviestPokemons(1).map(Pokemon::getName).blockFirst();
+    }
+
+    private void page(int offset, int count, String... names) {
+        StringBuilder results = new StringBuilder();
+        for (String name : names) {
+            if (!results.isEmpty()) {
+                results.append(',');
+            }
+            results.append("{\"name\":\"").append(name).append("\",\"url\":\"\"}");
+        }
+        String next = offset + 2 < count ? "\"https://pokeapi.co/api/v2/pokemon/?offset=" + (offset + 2) + "&limit=2\"" : "null";
+        responses.put("https://pokeapi.co/api/v2/pokemon/?offset=" + offset + "&limit=2",
+                "{\"count\":" + count + ",\"next\":" + next + ",\"results\":[" + results + "]}");
+    }
+
+    private void detail(String name, int id, int weight, int height, int baseExperience) {
+        responses.put("https://pokeapi.co/api/v2/pokemon/" + name,
+                "{\"id\":" + id + ",\"name\":\"" + name + "\",\"weight\":" + weight + ",\"height\":" + height
+                        + ",\"base_experience\":" + baseExperience + ",\"moves\":[]}");
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.pokemonapi.unit.service;
+
+import org.example.pokemonapi.service.SingleFlight;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ShouldRunLoaderOnceForConcurrentCallers() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submit(8, () -> singleFlight.execute("pikachu", () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "pikachu";
+        }));
+        waitUntilInFlight();
+        Thread.sleep(50);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("pikachu", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void execute_ShouldShareExceptionWithWaitingCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submit(4, () -> singleFlight.execute("missingno", () -> {
+            await(release);
+            throw new IllegalStateException("upstream down");
+        }));
+        waitUntilInFlight();
+        Thread.sleep(50);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+    }
+
+    @Test
+    void execute_ShouldLoadAgainAfterPreviousCallCompleted() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("bulbasaur", () -> "v" + calls.incrementAndGet());
+        String second = singleFlight.execute("bulbasaur", () -> "v" + calls.incrementAndGet());
+
+        assertEquals("v2", second);
+    }
+
+    private List<Future<String>> submit(int callers, Callable<String> task) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(task));
+        }
+        return results;
+    }
+
+    private void waitUntilInFlight() throws InterruptedException {
+        while (singleFlight.inFlightCount() == 0) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
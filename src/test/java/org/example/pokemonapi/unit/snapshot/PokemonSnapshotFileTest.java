@@ -0,0 +1,110 @@
+package org.example.pokemonapi.unit.snapshot;
+
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.snapshot.PokemonSnapshotFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonSnapshotFileTest {
+
+    private final List<Pokemon> pokemons = List.of(
+            new Pokemon("bulbasaur", 69, 7, 64, List.of("grass", "poison"),
+                    Map.of("hp", 45, "attack", 49, "speed", 45), List.of("overgrow", "chlorophyll")),
+            new Pokemon("nidoran-♀", 70, 4, 55),
+            new Pokemon("snorlax", 4600, 21, 189)
+    );
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeAndRead_ShouldRoundTripInOrder() throws IOException {
+        Path path = directory.resolve("nested").resolve("pokemon.snapshot");
+
+        PokemonSnapshotFile.write(path, pokemons);
+
+        assertEquals(pokemons, PokemonSnapshotFile.read(path));
+        try (var files = Files.list(path.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void write_ShouldReplaceExistingSnapshot() throws IOException {
+        Path path = directory.resolve("pokemon.snapshot");
+        PokemonSnapshotFile.write(path, pokemons);
+
+        PokemonSnapshotFile.write(path, pokemons.subList(0, 1));
+
+        assertEquals(pokemons.subList(0, 1), PokemonSnapshotFile.read(path));
+    }
+
+    @Test
+    void read_ShouldRejectCorruptedPayload() throws IOException {
+        byte[] bytes = bytes(pokemons);
+        bytes[20] ^= 0x01;
+
+        IOException e = assertThrows(IOException.class, () -> PokemonSnapshotFile.read(new ByteArrayInputStream(bytes)));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void read_ShouldRejectTruncatedFile() throws IOException {
+        byte[] bytes = bytes(pokemons);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 6);
+
+        assertThrows(IOException.class, () -> PokemonSnapshotFile.read(new ByteArrayInputStream(truncated)));
+    }
+
+    @Test
+    void read_ShouldRejectOtherFilesAndVersions() throws IOException {
+        byte[] bytes = bytes(pokemons);
+        byte[] otherVersion = bytes.clone();
+        otherVersion[5] = 3;
+
+        assertThrows(IOException.class, () -> PokemonSnapshotFile.read(new ByteArrayInputStream("{}\n".repeat(4).getBytes())));
+        IOException e = assertThrows(IOException.class, () -> PokemonSnapshotFile.read(new ByteArrayInputStream(otherVersion)));
+        assertTrue(e.getMessage().contains("version"));
+    }
+
+    @Test
+    void read_ShouldReadVersionOneWithoutDetails() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CheckedOutputStream checked = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(checked);
+        data.writeInt(0x504B534E);
+        data.writeShort(1);
+        data.writeInt(1);
+        data.writeUTF("snorlax");
+        data.writeInt(4600);
+        data.writeInt(21);
+        data.writeInt(189);
+        data.flush();
+        new DataOutputStream(out).writeInt((int) checked.getChecksum().getValue());
+
+        List<Pokemon> read = PokemonSnapshotFile.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(List.of(new Pokemon("snorlax", 4600, 21, 189)), read);
+        assertTrue(read.get(0).getTypes().isEmpty());
+    }
+
+    private static byte[] bytes(List<Pokemon> pokemons) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PokemonSnapshotFile.write(out, pokemons);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.pokemonapi.unit.snapshot;
+
+import org.example.pokemonapi.cache.PokemonCache;
+import org.example.pokemonapi.config.ExecutorConfig;
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.service.PokemonService;
+import org.example.pokemonapi.snapshot.PokemonSnapshotFile;
+import org.example.pokemonapi.snapshot.SnapshotWarmup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SnapshotWarmupTest {
+
+    private static final String URL = "https://pokeapi.co/api/v2/pokemon/";
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final PokemonProperties properties = new PokemonProperties();
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    // The crawl blocks on fetches it queues on the PokeAPI executor, so it must not occupy that executor's only thread.
+    @Test
+    void warmUp_ShouldRefreshWithASingleThreadPokeApiExecutor(@TempDir Path directory) throws Exception {
+        properties.getExecutor().setThreads(1);
+        properties.getSnapshot().setPath(directory.resolve("pokemon.snapshot"));
+        executor = (ThreadPoolTaskExecutor) ExecutorConfig.createExecutor(properties.getExecutor());
+        executor.initialize();
+        when(restTemplate.getForObject(URL + "?offset=0&limit=200", PokemonService.PokemonListResponse.class))
+                .thenReturn(new PokemonService.PokemonListResponse(1, null, List.of(new PokemonService.PokemonResult("pikachu", ""))));
+        when(restTemplate.getForObject(URL + "pikachu", PokemonService.PokemonResponse.class))
+                .thenReturn(new PokemonService.PokemonResponse("pikachu", 60, 4, 112));
+        PokemonService pokemonService = new PokemonService(restTemplate, new PokemonCache(properties), properties, executor);
+        CountDownLatch loaded = new CountDownLatch(1);
+        pokemonService.onDatasetLoaded(pokemons -> loaded.countDown());
+        SnapshotWarmup warmup = new SnapshotWarmup(pokemonService, properties);
+
+        warmup.warmUp();
+
+        assertTrue(loaded.await(5, TimeUnit.SECONDS), "refresh did not complete");
+        assertEquals(List.of(new Pokemon("pikachu", 60, 4, 112)), pokemonService.getAllPokemons());
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.pokemonapi.unit.store;
+
+import org.example.pokemonapi.config.PokemonProperties;
+import org.example.pokemonapi.model.Pokemon;
+import org.example.pokemonapi.store.ColumnarPokemonStore;
+import org.example.pokemonapi.store.HeapPokemonStore;
+import org.example.pokemonapi.store.PokemonStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarPokemonStoreTest {
+
+    private final List<Pokemon> pokemons = List.of(
+            new Pokemon("bulbasaur", 69, 7, 64),
+            new Pokemon("ivysaur", 130, 10, 142),
+            new Pokemon("venusaur", 1000, 20, 263)
+    );
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void offHeap_ShouldReadBackEveryColumn() {
+        ColumnarPokemonStore store = ColumnarPokemonStore.offHeap(pokemons);
+
+        assertEquals(3, store.size());
+        assertEquals("ivysaur", store.name(1));
+        assertEquals(1000, store.weight(2));
+        assertEquals(10, store.height(1));
+        assertEquals(64, store.baseExperience(0));
+        assertEquals(pokemons, store.asList());
+        assertEquals(3 * 9 * Integer.BYTES, store.columnBytes());
+    }
+
+    @Test
+    void offHeap_ShouldKeepTypesStatsAndAbilities() {
+        List<Pokemon> detailed = List.of(
+                new Pokemon("bulbasaur", 69, 7, 64, List.of("grass", "poison"),
+                        Map.of("hp", 45, "speed", 45), List.of("overgrow", "chlorophyll")),
+                new Pokemon("ivysaur", 130, 10, 142, List.of("grass", "poison"),
+                        Map.of("hp", 60, "speed", 60), List.of("overgrow", "chlorophyll")));
+        ColumnarPokemonStore store = ColumnarPokemonStore.offHeap(detailed);
+
+        assertEquals(detailed, store.asList());
+        assertEquals(60, store.stat(1, Pokemon.STATS.indexOf("hp")));
+        assertEquals(-1, store.stat(1, Pokemon.STATS.indexOf("attack")));
+        assertSame(store.types(0), store.types(1));
+        assertEquals(List.of("overgrow", "chlorophyll"), store.abilities(1));
+    }
+
+    @Test
+    void rowOf_ShouldFindRowsByName() {
+        ColumnarPokemonStore store = ColumnarPokemonStore.offHeap(pokemons);
+
+        assertEquals(2, store.rowOf("venusaur"));
+        assertEquals(-1, store.rowOf("charmander"));
+    }
+
+    @Test
+    void mapped_ShouldNotLeaveFilesBehind() throws IOException {
+        ColumnarPokemonStore store = ColumnarPokemonStore.mapped(pokemons, directory);
+
+        assertEquals(pokemons, store.asList());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void of_ShouldCreateConfiguredStoreType() {
+        PokemonProperties.Store settings = new PokemonProperties().getStore();
+        settings.setDirectory(directory);
+
+        assertInstanceOf(HeapPokemonStore.class, PokemonStore.of(pokemons, settings));
+        settings.setType(PokemonProperties.Store.Type.OFF_HEAP);
+        assertInstanceOf(ColumnarPokemonStore.class, PokemonStore.of(pokemons, settings));
+        settings.setType(PokemonProperties.Store.Type.MAPPED);
+        assertEquals(pokemons, PokemonStore.of(pokemons, settings).asList());
+    }
+
+    @Test
+    void emptyStore_ShouldBeEmpty() throws IOException {
+        assertTrue(ColumnarPokemonStore.offHeap(List.of()).asList().isEmpty());
+        assertEquals(0, ColumnarPokemonStore.mapped(List.of(), directory).size());
+    }
+}